@@ -1,5 +1,7 @@
 -- ===================================
 -- TodoList 프로젝트 데이터베이스 스키마
+-- 실제 스키마는 Flyway 마이그레이션(src/main/resources/db/migration/mysql)이 관리함
+-- 이 파일은 테이블 관계 설명과 조회 쿼리 예시용 참고 자료
 -- ===================================
 
 -- 1. todo_users 테이블 (사용자 정보)
@@ -9,6 +11,8 @@ CREATE TABLE todo_users (
     user_pw VARCHAR(255) NOT NULL,                 -- 암호화된 비밀번호
     user_name VARCHAR(255) NOT NULL,               -- 사용자 이름
     total_focus_time BIGINT DEFAULT 0,             -- 총 집중시간 (초 단위) ⭐ 새로 추가
+    current_points BIGINT DEFAULT 0,               -- 현재 보유 포인트
+    converted_focus_time BIGINT DEFAULT 0,         -- 포인트로 변환된 누적 집중시간 (points.focus_time_used 합계)
     INDEX idx_user_id (user_id)
 );
 
@@ -34,7 +38,38 @@ CREATE TABLE points (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, -- 포인트 획득 시각
     FOREIGN KEY (user_id) REFERENCES todo_users(id) ON DELETE CASCADE,
     INDEX idx_user_id (user_id),
-    INDEX idx_created_at (created_at)
+    INDEX idx_created_at (created_at),
+    INDEX idx_points_user_created_at (user_id, created_at)  -- 사용자별 이력 keyset 페이지/스트리밍
+);
+
+-- 4. focus_sessions 테이블 (집중시간 변경 이벤트, 추가만 함)
+CREATE TABLE focus_sessions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,                       -- 사용자 PK
+    todo_id BIGINT NOT NULL,                       -- 할 일 PK
+    delta_seconds BIGINT NOT NULL,                 -- 집중시간 변화량 (초, 줄인 경우 음수)
+    occurred_at DATETIME(6) NOT NULL,              -- 변경 시각
+    rolled_up BOOLEAN NOT NULL DEFAULT FALSE,      -- 구간 집계 반영 여부
+    INDEX idx_focus_sessions_rolled_up (rolled_up, id)
+);
+
+-- 5. focus_rollups 테이블 (시간/일/주 구간 집계, todo_id = 0 은 사용자 전체 합계)
+CREATE TABLE focus_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    granularity VARCHAR(10) NOT NULL,              -- HOUR, DAY, WEEK
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,             -- 구간 시작 시각
+    total_seconds BIGINT NOT NULL,                 -- 구간 내 집중시간 합계 (초)
+    UNIQUE KEY uk_focus_rollups_bucket (granularity, user_id, todo_id, bucket_start)
+);
+
+-- 6. point_outbox 테이블 (포인트 자동 적립 대기, 집중시간 변경과 같은 트랜잭션에서 기록하고 적립 후 삭제)
+CREATE TABLE point_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_point_outbox_user_id (user_id, id)
 );
 
 -- ===================================
@@ -52,6 +87,7 @@ CREATE TABLE points (
 
 3. 집중시간 흐름:
    개별 todo.total_focus_time → 합계 → todo_users.total_focus_time → points.focus_time_used
+   - todo_users.converted_focus_time 은 points.focus_time_used 합계를 포인트 기록과 같은 트랜잭션에서 유지
 */
 
 -- ===================================
@@ -87,11 +123,13 @@ SELECT total_focus_time
 FROM todo_users 
 WHERE id = 1;
 
--- 사용자의 포인트 획득 이력 조회
-SELECT focus_time_used, points_earned, created_at 
-FROM points 
-WHERE user_id = 1 
-ORDER BY created_at DESC;
+-- 사용자의 포인트 획득 이력 조회 (keyset 페이지: 이전 페이지 마지막 (created_at, id) 이후)
+SELECT id, focus_time_used, points_earned, created_at
+FROM points
+WHERE user_id = 1
+  AND (created_at < '2024-01-02 14:30:00' OR (created_at = '2024-01-02 14:30:00' AND id < 2))
+ORDER BY created_at DESC, id DESC
+LIMIT 20;
 
 -- 사용자의 할 일별 집중시간 조회
 SELECT title, total_focus_time, status 
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { TodoRequestDto, TodoResponseDto, Status, UserRequestDto, UserResponseDto, LoginRequestDto, PointResponseDto } from './types';
+import { TodoRequestDto, TodoResponseDto, Status, UserRequestDto, UserResponseDto, LoginRequestDto, PointResponseDto, CursorPageDto } from './types';
 
 const api = axios.create({
     baseURL: process.env.NEXT_PUBLIC_API_BASE_URL || 'http://localhost:8080',
@@ -34,9 +34,9 @@ export const userApi = {
         return response.data;
     },
 
-    // 모든 사용자 조회 (관리자용)
-    getAllUsers: async (): Promise<UserResponseDto[]> => {
-        const response = await api.get('/users/list');
+    // 사용자 목록 커서 페이지 조회 (관리자용)
+    getUserPage: async (cursor?: string | null, size = 50): Promise<CursorPageDto<UserResponseDto>> => {
+        const response = await api.get('/users/page', { params: { cursor: cursor ?? undefined, size } });
         return response.data;
     },
 
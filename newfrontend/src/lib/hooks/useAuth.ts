@@ -95,16 +95,37 @@ export const useAuth = () => {
 // 사용자 목록 관리 훅 (관리자용)
 export const useUsers = () => {
     const [users, setUsers] = useState<UserResponseDto[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [hasMore, setHasMore] = useState(false);
     const [loading, setLoading] = useState(false);
     const [error, setError] = useState<string | null>(null);
 
-    // 모든 사용자 조회
+    // 사용자 목록 첫 페이지 조회
     const fetchUsers = async () => {
         try {
             setLoading(true);
             setError(null);
-            const data = await userApi.getAllUsers();
-            setUsers(data);
+            const page = await userApi.getUserPage();
+            setUsers(page.items);
+            setNextCursor(page.nextCursor);
+            setHasMore(page.hasNext);
+        } catch (err) {
+            setError(err instanceof Error ? err.message : '사용자 목록을 불러오는데 실패했습니다.');
+        } finally {
+            setLoading(false);
+        }
+    };
+
+    // 다음 페이지 이어서 조회
+    const fetchMoreUsers = async () => {
+        if (!hasMore || loading) return;
+        try {
+            setLoading(true);
+            setError(null);
+            const page = await userApi.getUserPage(nextCursor);
+            setUsers(prev => [...prev, ...page.items]);
+            setNextCursor(page.nextCursor);
+            setHasMore(page.hasNext);
         } catch (err) {
             setError(err instanceof Error ? err.message : '사용자 목록을 불러오는데 실패했습니다.');
         } finally {
@@ -143,9 +164,11 @@ export const useUsers = () => {
 
     return {
         users,
+        hasMore,
         loading,
         error,
         fetchUsers,
+        fetchMoreUsers,
         deleteUser,
         updateUser
     };
@@ -12,6 +12,13 @@ export interface UserRequestDto {
     userName: string;
 }
 
+// 커서 페이지 응답 (nextCursor 를 다음 요청의 cursor 로 전달, 마지막 페이지면 null)
+export interface CursorPageDto<T> {
+    items: T[];
+    nextCursor: string | null;
+    hasNext: boolean;
+}
+
 export interface LoginRequestDto {
     userId: string;
     userPw: string;
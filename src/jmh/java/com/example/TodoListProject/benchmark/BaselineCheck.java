@@ -0,0 +1,107 @@
+package com.example.TodoListProject.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMH 결과(JSON)를 저장된 기준값과 비교해서 허용 범위를 넘게 느려진 벤치마크가 있으면 실패
+ * 사용법: BaselineCheck <results.json> <baseline.json> [--update]
+ * --update 는 이번 결과로 기준값을 다시 씀 (허용 범위 설정은 유지)
+ */
+public class BaselineCheck {
+
+    private static final double DEFAULT_TOLERANCE = 0.5;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("사용법: BaselineCheck <results.json> <baseline.json> [--update]");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode results = objectMapper.readTree(new File(args[0]));
+        File baselineFile = new File(args[1]);
+        boolean update = args.length > 2 && "--update".equals(args[2]);
+
+        if (update) {
+            writeBaseline(objectMapper, results, baselineFile);
+            return;
+        }
+
+        JsonNode baseline = objectMapper.readTree(baselineFile);
+        double tolerance = baseline.path("tolerance").asDouble(DEFAULT_TOLERANCE);
+        JsonNode expected = baseline.path("scores");
+
+        List<String> regressions = new ArrayList<>();
+        for (JsonNode result : results) {
+            String name = key(result);
+            double score = result.path("primaryMetric").path("score").asDouble();
+            String unit = result.path("primaryMetric").path("scoreUnit").asText();
+            if (!expected.has(name)) {
+                System.out.printf("[jmh] %s: %.3f %s (기준값 없음)%n", name, score, unit);
+                continue;
+            }
+
+            double reference = expected.get(name).asDouble();
+            // 처리량(thrpt)은 높을수록, 그 외(avgt 등)는 낮을수록 좋음
+            boolean throughput = "thrpt".equals(result.path("mode").asText());
+            double change = throughput ? (reference - score) / reference : (score - reference) / reference;
+            System.out.printf("[jmh] %s: %.3f %s (기준 %.3f, %+.1f%%)%n", name, score, unit, reference,
+                    (score - reference) / reference * 100);
+            if (change > tolerance) {
+                regressions.add(String.format("%s: %.3f %s (기준 %.3f)", name, score, unit, reference));
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("기준값 대비 " + Math.round(tolerance * 100) + "% 넘게 느려진 벤치마크: "
+                    + String.join(", ", regressions));
+        }
+    }
+
+    // @Param 이 있는 벤치마크는 파라미터 조합별로 기준값을 따로 둠 (예: ...singleCaller:cost=10)
+    private static String key(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+        Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+        String separator = ":";
+        while (params.hasNext()) {
+            Map.Entry<String, JsonNode> param = params.next();
+            key.append(separator).append(param.getKey()).append('=').append(param.getValue().asText());
+            separator = ",";
+        }
+        return key.toString();
+    }
+
+    private static void writeBaseline(ObjectMapper objectMapper, JsonNode results, File baselineFile)
+            throws IOException {
+        ObjectNode baseline = objectMapper.createObjectNode();
+        double tolerance = DEFAULT_TOLERANCE;
+        if (baselineFile.exists()) {
+            tolerance = objectMapper.readTree(baselineFile).path("tolerance").asDouble(DEFAULT_TOLERANCE);
+        }
+        baseline.put("tolerance", tolerance);
+
+        ObjectNode scores = baseline.putObject("scores");
+        for (JsonNode result : results) {
+            scores.put(key(result), result.path("primaryMetric").path("score").asDouble());
+        }
+        // 기존 기준값 중 이번에 실행하지 않은 벤치마크는 유지
+        if (baselineFile.exists()) {
+            Iterator<Map.Entry<String, JsonNode>> previous = objectMapper.readTree(baselineFile).path("scores").fields();
+            while (previous.hasNext()) {
+                Map.Entry<String, JsonNode> entry = previous.next();
+                if (!scores.has(entry.getKey())) {
+                    scores.set(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(baselineFile, baseline);
+        System.out.println("[jmh] 기준값 갱신: " + baselineFile);
+    }
+}
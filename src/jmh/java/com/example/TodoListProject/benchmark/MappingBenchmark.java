@@ -0,0 +1,83 @@
+package com.example.TodoListProject.benchmark;
+
+import com.example.TodoListProject.Dto.ShopItemDto;
+import com.example.TodoListProject.Dto.TodoResponseDto;
+import com.example.TodoListProject.Entity.Todo;
+import com.example.TodoListProject.Enum.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 없이 측정하는 DTO 변환 / JSON 직렬화 비용 (할 일 보드 한 화면, 상점 목록 한 화면 기준)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private static final int TODOS = 200;
+    private static final int SHOP_ITEMS = 50;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private List<Todo> todos;
+    private List<TodoResponseDto> todoPayload;
+    private List<ShopItemDto> shopPayload;
+
+    @Setup
+    public void setUp() {
+        Status[] statuses = Status.values();
+        todos = new ArrayList<>(TODOS);
+        for (int i = 0; i < TODOS; i++) {
+            todos.add(Todo.builder()
+                    .id((long) i)
+                    .title("할 일 " + i)
+                    .description("벤치마크용 할 일 설명 " + i)
+                    .status(statuses[i % statuses.length])
+                    .totalFocusTime(i % 3 == 0 ? null : i * 60L)
+                    .build());
+        }
+        todoPayload = todos.stream().map(TodoResponseDto::fromEntity).toList();
+
+        shopPayload = new ArrayList<>(SHOP_ITEMS);
+        for (int i = 0; i < SHOP_ITEMS; i++) {
+            shopPayload.add(ShopItemDto.builder()
+                    .id((long) i)
+                    .itemName("아이템 " + i)
+                    .description("벤치마크용 아이템 설명 " + i)
+                    .price(100L + i * 10)
+                    .category("THEME")
+                    .isPurchased(i % 4 == 0)
+                    .canPurchase(i % 2 == 0)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<TodoResponseDto> todoFromEntity() {
+        List<TodoResponseDto> result = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            result.add(TodoResponseDto.fromEntity(todo));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeTodos() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(todoPayload);
+    }
+
+    @Benchmark
+    public byte[] serializeShopItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(shopPayload);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.TodoListProject.benchmark;
+
+import com.example.TodoListProject.Security.BoundedBCryptPasswordEncoder;
+import com.example.TodoListProject.Security.PasswordHashingExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 해시 처리량 (노드 크기 산정용)
+ * 요청 스레드 하나일 때와 코어 수만큼 동시에 요청할 때(해시 전용 풀 전체) 처리량을 함께 측정
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    @Param({"8", "9", "10", "11", "12"})
+    public int cost;
+
+    private PasswordHashingExecutor executor;
+    private BoundedBCryptPasswordEncoder encoder;
+
+    @Setup
+    public void setUp() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        executor = new PasswordHashingExecutor(threads, threads * 4, 60_000);
+        encoder = new BoundedBCryptPasswordEncoder(cost, executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleCaller() {
+        return encoder.encode("benchmark-password");
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String concurrentCallers() {
+        return encoder.encode("benchmark-password");
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.TodoListProject.benchmark;
+
+import com.example.TodoListProject.Dto.CursorPageDto;
+import com.example.TodoListProject.Dto.PointHistoryDto;
+import com.example.TodoListProject.Dto.ShopItemDto;
+import com.example.TodoListProject.Entity.Point;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.PointRepository;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Service.PointService;
+import com.example.TodoListProject.Service.ShopService;
+import com.example.TodoListProject.TodoListProjectApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2(test 프로필) 위에서 실제 서비스 빈으로 측정하는 상점 목록 / 포인트 이력 조회 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final int POINT_RECORDS = 500;
+
+    private ConfigurableApplicationContext context;
+    private ShopService shopService;
+    private PointService pointService;
+    private PointRepository pointRepository;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoListProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // 주기 작업(버퍼 반영, 적립, 집계 등)이 측정 중에 끼어들지 않도록 끔
+                .properties("logging.level.root=WARN", "app.scheduling.enabled=false")
+                .run();
+        shopService = context.getBean(ShopService.class);
+        pointService = context.getBean(PointService.class);
+        pointRepository = context.getBean(PointRepository.class);
+
+        user = context.getBean(UserRepository.class).save(User.builder()
+                .userId("jmh-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("벤치마크")
+                .currentPoints(1_000L)
+                .build());
+        List<Point> points = new ArrayList<>(POINT_RECORDS);
+        for (int i = 0; i < POINT_RECORDS; i++) {
+            points.add(Point.builder().user(user).focusTimeUsed(60L * (i % 10 + 1)).pointsEarned(i % 10 + 1L).build());
+        }
+        pointRepository.saveAll(points);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ShopItemDto> shopItems() {
+        return shopService.getAllShopItems(user.getId());
+    }
+
+    @Benchmark
+    public CursorPageDto<PointHistoryDto> pointHistoryPage() {
+        return pointService.getUserPointHistoryPage(user.getId(), null, 20);
+    }
+
+    @Benchmark
+    public Long pointHistorySum() {
+        return pointRepository.sumFocusTimeUsedByUser(user);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.TodoListProject.benchmark;
+
+import com.example.TodoListProject.Dto.TodoRequestDto;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Service.TodoService;
+import com.example.TodoListProject.TodoListProjectApplication;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 할 일 500건 생성 비용 비교
+ * - insertOneByOne: 건별 생성(POST /todos), 요청마다 트랜잭션
+ * - insertInBatchWithoutJdbcBatching: 일괄 생성과 같은 트랜잭션 구성에서 JDBC 배치만 끔 (insert 마다 왕복)
+ * - insertInBatch: 일괄 생성(POST /todos/batch, 상한 200건씩), pooled 시퀀스 + JDBC 배치
+ * 할 일 id 는 변경 전에도 AUTO(= Hibernate 의 todo_seq, 50개 할당)였고 todo.id 에 IDENTITY 가 없으므로
+ * IDENTITY 변형은 두지 않음 - 두 번째 변형이 IDENTITY 처럼 배치 없이 insert 하는 경우의 기준값
+ * 인증 정보가 스레드 로컬이라 상태는 측정 스레드 단위(Scope.Thread)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TodoBatchInsertBenchmark {
+
+    private static final int ROWS = 500;
+    // TodoService 일괄 생성 상한
+    private static final int BATCH = 200;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TransactionTemplate transactionTemplate;
+    private EntityManagerFactory entityManagerFactory;
+    private List<TodoRequestDto> requests;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoListProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // 주기 작업(버퍼 반영, 적립, 집계 등)이 측정 중에 끼어들지 않도록 끔
+                .properties("logging.level.root=WARN", "app.scheduling.enabled=false")
+                .run();
+        todoService = context.getBean(TodoService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .userId("jmh-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("벤치마크")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUserId(), null, List.of()));
+
+        requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            TodoRequestDto dto = new TodoRequestDto();
+            dto.setTitle("할 일 " + i);
+            dto.setDescription("벤치마크");
+            requests.add(dto);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public int insertOneByOne() {
+        int created = 0;
+        for (TodoRequestDto request : requests) {
+            todoService.createTodo(request);
+            created++;
+        }
+        return created;
+    }
+
+    @Benchmark
+    public int insertInBatchWithoutJdbcBatching() {
+        int created = 0;
+        for (List<TodoRequestDto> chunk : chunks()) {
+            created += transactionTemplate.execute(status -> {
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                        .unwrap(Session.class)
+                        .setJdbcBatchSize(1);
+                return todoService.createTodos(chunk).size();
+            });
+        }
+        return created;
+    }
+
+    @Benchmark
+    public int insertInBatch() {
+        int created = 0;
+        for (List<TodoRequestDto> chunk : chunks()) {
+            created += todoService.createTodos(chunk).size();
+        }
+        return created;
+    }
+
+    private List<List<TodoRequestDto>> chunks() {
+        List<List<TodoRequestDto>> chunks = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += BATCH) {
+            chunks.add(requests.subList(from, Math.min(from + BATCH, requests.size())));
+        }
+        return chunks;
+    }
+}
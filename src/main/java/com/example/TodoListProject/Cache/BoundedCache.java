@@ -0,0 +1,157 @@
+package com.example.TodoListProject.Cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기 제한(LRU) + 만료 시간(TTL)이 있는 간단한 메모리 캐시
+ * 적중/미스/제거 횟수를 함께 기록
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public BoundedCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        // access-order 로 두어 가장 오래 사용되지 않은 항목부터 제거
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (isExpired(entry)) {
+                entries.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 조건을 확인하고 저장하는 것을 한 잠금 안에서 수행 (조건이 거짓이면 저장하지 않음)
+    public boolean putIf(K key, V value, BooleanSupplier condition) {
+        lock.lock();
+        try {
+            if (!condition.getAsBoolean()) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+            evictOverflow();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 있는 항목을 잠금 안에서 읽고 바꿈 (동시에 갱신해도 변경이 유실되지 않음, 만료 시간은 유지)
+    public void computeIfPresent(K key, UnaryOperator<V> remapping) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !isExpired(entry)) {
+                entries.put(key, new Entry<>(remapping.apply(entry.value), entry.expiresAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return clock.millis() >= entry.expiresAt;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.TodoListProject.Controller;
+
+import com.example.TodoListProject.Dto.FocusRollupDto;
+import com.example.TodoListProject.Enum.RollupGranularity;
+import com.example.TodoListProject.Service.FocusAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집중시간 통계 API (미리 집계된 구간만 조회)
+ * granularity: HOUR, DAY, WEEK / from, to: ISO 날짜시각 (생략 시 최근 구간)
+ */
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", allowedHeaders = "*")
+@Slf4j
+public class AnalyticsController {
+
+    private final FocusAnalyticsService focusAnalyticsService;
+
+    /**
+     * 사용자 전체 집중시간 추이
+     */
+    @GetMapping("/focus")
+    public ResponseEntity<?> getUserFocus(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            List<FocusRollupDto> buckets = focusAnalyticsService.getUserFocus(userDetails, granularity, from, to);
+            return ResponseEntity.ok(buckets);
+        } catch (IllegalArgumentException e) {
+            log.warn("집중시간 통계 조회 실패: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * 할 일별 집중시간 추이
+     */
+    @GetMapping("/focus/todos/{todoId}")
+    public ResponseEntity<?> getTodoFocus(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long todoId,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            List<FocusRollupDto> buckets = focusAnalyticsService.getTodoFocus(userDetails, todoId, granularity, from, to);
+            return ResponseEntity.ok(buckets);
+        } catch (IllegalArgumentException e) {
+            log.warn("할 일 집중시간 통계 조회 실패 - 할 일 ID: {}, 오류: {}", todoId, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
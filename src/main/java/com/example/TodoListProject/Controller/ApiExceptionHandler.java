@@ -0,0 +1,33 @@
+package com.example.TodoListProject.Controller;
+
+import com.example.TodoListProject.Security.PasswordHashingBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 컨트롤러 공통 예외 응답
+ */
+@RestControllerAdvice
+@Slf4j
+public class ApiExceptionHandler {
+
+    /**
+     * 비밀번호 해시 작업 포화 - 429 + Retry-After 로 잠시 후 재시도 유도
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(PasswordHashingBusyException e) {
+        log.warn("요청 지연 - 비밀번호 해시 작업 포화: {}", e.getMessage());
+        Map<String, String> error = new HashMap<>();
+        error.put("error", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.TodoListProject.Controller;
 
 import com.example.TodoListProject.Dto.LoginRequestDto;
 import com.example.TodoListProject.Dto.UserResponseDto;
+import com.example.TodoListProject.Security.PasswordHashingBusyException;
 import com.example.TodoListProject.Service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -42,7 +43,15 @@ public class AuthController {
             Map<String, Object> result = new HashMap<>();
             result.put("message", "로그인 성공");
             result.put("user", user);
+            // 서명 토큰 모드면 Authorization: Bearer 헤더로 보낼 토큰 포함
+            String accessToken = userService.issueAccessToken();
+            if (accessToken != null) {
+                result.put("accessToken", accessToken);
+            }
             return ResponseEntity.ok(result);
+        } catch (PasswordHashingBusyException e) {
+            // ApiExceptionHandler 에서 429 응답
+            throw e;
         } catch (Exception e) {
             log.error("[AuthController] 로그인 실패: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -62,7 +71,7 @@ public class AuthController {
         }
         log.info("[AuthController] 현재 사용자 정보 조회: userId={}", userDetails.getUsername());
         try {
-            UserResponseDto user = userService.getCurrentUserByUserId(userDetails.getUsername());
+            UserResponseDto user = userService.getCurrentUser(userDetails);
             log.info("[AuthController] 현재 사용자 정보 조회 성공: userId={}", user.getUserId());
             return ResponseEntity.ok(user);
         } catch (Exception e) {
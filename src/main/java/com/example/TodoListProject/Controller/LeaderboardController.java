@@ -0,0 +1,66 @@
+package com.example.TodoListProject.Controller;
+
+import com.example.TodoListProject.Dto.LeaderboardEntryDto;
+import com.example.TodoListProject.Enum.LeaderboardType;
+import com.example.TodoListProject.Service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리더보드 API (type: POINTS, FOCUS_TIME)
+ */
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", allowedHeaders = "*")
+@Slf4j
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 상위 순위
+     */
+    @GetMapping("/{type}/top")
+    public List<LeaderboardEntryDto> getTop(@PathVariable LeaderboardType type,
+                                            @RequestParam(defaultValue = "10") int size) {
+        return leaderboardService.getTop(type, size);
+    }
+
+    /**
+     * 사용자의 순위
+     */
+    @GetMapping("/{type}/users/{userId}")
+    public ResponseEntity<?> getRank(@PathVariable LeaderboardType type, @PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getRank(type, userId));
+        } catch (IllegalArgumentException e) {
+            log.warn("리더보드 순위 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * 사용자 앞뒤 순위 (앞뒤로 size 명씩)
+     */
+    @GetMapping("/{type}/users/{userId}/around")
+    public ResponseEntity<?> getAround(@PathVariable LeaderboardType type, @PathVariable Long userId,
+                                       @RequestParam(defaultValue = "5") int size) {
+        try {
+            return ResponseEntity.ok(leaderboardService.getAround(type, userId, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("리더보드 주변 순위 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package com.example.TodoListProject.Controller;
 
+import com.example.TodoListProject.Dto.CursorPageDto;
+import com.example.TodoListProject.Dto.PointHistoryDto;
 import com.example.TodoListProject.Dto.PointResponseDto;
-import com.example.TodoListProject.Entity.Point;
 import com.example.TodoListProject.Service.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/points")
@@ -17,6 +23,8 @@ import java.util.List;
 @Slf4j
 public class PointController {
     
+    private static final String NDJSON = "application/x-ndjson";
+
     private final PointService pointService;
     
     /**
@@ -42,7 +50,7 @@ public class PointController {
     }
     
     /**
-     * 사용자의 집중 시간 기반 포인트 계산 및 업데이트
+     * 사용자의 집중 시간 기반 포인트 조회 (적립은 집중시간 변경 시 자동으로 처리됨)
      */
     @PostMapping("/{userId}/calculate")
     public ResponseEntity<PointResponseDto> calculateAndUpdatePoints(@PathVariable Long userId) {
@@ -68,10 +76,10 @@ public class PointController {
      * 사용자의 포인트 획득 이력 조회
      */
     @GetMapping("/{userId}/history")
-    public ResponseEntity<List<Point>> getUserPointHistory(@PathVariable Long userId) {
+    public ResponseEntity<List<PointHistoryDto>> getUserPointHistory(@PathVariable Long userId) {
         try {
             log.info("포인트 이력 조회 요청 - 사용자 ID: {}", userId);
-            List<Point> history = pointService.getUserPointHistory(userId);
+            List<PointHistoryDto> history = pointService.getUserPointHistory(userId);
             log.info("포인트 이력 조회 성공 - 사용자 ID: {}, 기록 수: {}", userId, history.size());
             return ResponseEntity.ok(history);
         } catch (Exception e) {
@@ -79,4 +87,44 @@ public class PointController {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 사용자의 포인트 획득 이력 커서 페이지 조회 (최신순, nextCursor 로 이어서 조회)
+     */
+    @GetMapping("/{userId}/history/page")
+    public ResponseEntity<CursorPageDto<PointHistoryDto>> getUserPointHistoryPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            log.info("포인트 이력 페이지 조회 요청 - 사용자 ID: {}, 커서: {}", userId, cursor);
+            CursorPageDto<PointHistoryDto> history = pointService.getUserPointHistoryPage(userId, cursor, size);
+            log.info("포인트 이력 페이지 조회 성공 - 사용자 ID: {}, 기록 수: {}", userId, history.getItems().size());
+            return ResponseEntity.ok(history);
+        } catch (Exception e) {
+            log.error("포인트 이력 페이지 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage(), e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 사용자의 포인트 획득 이력 전체 내보내기 (NDJSON 스트리밍)
+     * 응답 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 사용자 확인은 먼저 함
+     */
+    @GetMapping(value = "/{userId}/history/export", produces = NDJSON)
+    public ResponseEntity<?> exportUserPointHistory(@PathVariable Long userId) {
+        log.info("포인트 이력 내보내기 요청 - 사용자 ID: {}", userId);
+        if (!pointService.existsUser(userId)) {
+            log.warn("포인트 이력 내보내기 실패 - 사용자 ID: {}, 오류: 사용자를 찾을 수 없습니다.", userId);
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "사용자를 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(error);
+        }
+        StreamingResponseBody body = out -> pointService.exportUserPointHistory(userId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+}
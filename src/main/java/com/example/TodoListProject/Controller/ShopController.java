@@ -1,5 +1,6 @@
 package com.example.TodoListProject.Controller;
 
+import com.example.TodoListProject.Dto.CursorPageDto;
 import com.example.TodoListProject.Dto.ShopItemDto;
 import com.example.TodoListProject.Dto.PurchaseRequestDto;
 import com.example.TodoListProject.Dto.PurchaseResponseDto;
@@ -94,6 +95,23 @@ public class ShopController {
         }
     }
 
+    // 사용자 구매 기록 커서 페이지 조회 (최신순, nextCursor 로 이어서 조회)
+    @GetMapping("/purchases/{userId}/page")
+    public ResponseEntity<CursorPageDto<UserPurchaseDto>> getUserPurchaseHistoryPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            log.info("사용자 구매 기록 페이지 조회 요청 - 사용자 ID: {}, 커서: {}", userId, cursor);
+            CursorPageDto<UserPurchaseDto> page = shopService.getUserPurchaseHistoryPage(userId, cursor, size);
+            log.info("사용자 구매 기록 페이지 조회 성공 - 사용자 ID: {}, 기록 수: {}", userId, page.getItems().size());
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            log.error("사용자 구매 기록 페이지 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage(), e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // 구매 가능한 아이템들 조회 (사용자 포인트로 구매할 수 있는 아이템들)
     @GetMapping("/affordable/{userId}")
     public ResponseEntity<List<ShopItemDto>> getAffordableItems(@PathVariable Long userId) {
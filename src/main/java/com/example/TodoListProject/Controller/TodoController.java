@@ -1,18 +1,28 @@
 package com.example.TodoListProject.Controller;
 
+import com.example.TodoListProject.Dto.CursorPageDto;
+import com.example.TodoListProject.Dto.FocusTimeSampleDto;
+import com.example.TodoListProject.Dto.TodoBoardDto;
 import com.example.TodoListProject.Dto.TodoRequestDto;
 import com.example.TodoListProject.Dto.TodoResponseDto;
+import com.example.TodoListProject.Dto.TodoStatusSummaryDto;
 import com.example.TodoListProject.Enum.Status;
 import com.example.TodoListProject.Service.TodoService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/todos")
-@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", allowedHeaders = "*")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true", allowedHeaders = "*", exposedHeaders = "ETag")
+@Slf4j
 public class TodoController {
     private final TodoService todoService;
 
@@ -21,11 +31,41 @@ public class TodoController {
         return todoService.createTodo(dto);
     }
 
+    // 할 일 일괄 생성
+    @PostMapping("/batch")
+    public ResponseEntity<?> createTodos(@RequestBody List<TodoRequestDto> dtos) {
+        try {
+            return ResponseEntity.ok(todoService.createTodos(dtos));
+        } catch (IllegalArgumentException e) {
+            log.warn("할 일 일괄 생성 실패 - 요청 수: {}, 오류: {}", dtos.size(), e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     @GetMapping
     public List<TodoResponseDto> getAllTodos() {
         return todoService.getAllTodos();
     }
 
+    // 커서 페이지 조회 (필터: 상태, 제목 앞부분, 집중시간 범위)
+    @GetMapping("/page")
+    public CursorPageDto<TodoResponseDto> getTodoPage(@RequestParam(required = false) Status status,
+                                                      @RequestParam(required = false) String titlePrefix,
+                                                      @RequestParam(required = false) Long minFocusTime,
+                                                      @RequestParam(required = false) Long maxFocusTime,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "50") int size) {
+        return todoService.getTodoPage(status, titlePrefix, minFocusTime, maxFocusTime, cursor, size);
+    }
+
+    // 상태별 할 일 수 / 집중시간 합계
+    @GetMapping("/summary")
+    public List<TodoStatusSummaryDto> getStatusSummary() {
+        return todoService.getStatusSummary();
+    }
+
     @GetMapping("/{id}")
     public TodoResponseDto getTodo(@PathVariable Long id) {
         return todoService.getTodoById(id);
@@ -41,6 +81,18 @@ public class TodoController {
         todoService.deleteTodo(id);
     }
 
+    // 칸반보드: 전체 컬럼 한 번에 조회 (보드가 바뀌지 않았으면 304)
+    @GetMapping("/board")
+    public ResponseEntity<TodoBoardDto> getBoard(WebRequest request) {
+        if (request.checkNotModified(todoService.getBoardETag())) {
+            return null;
+        }
+        TodoBoardDto board = todoService.getBoard();
+        return ResponseEntity.ok()
+                .eTag(board.getEtag())
+                .body(board);
+    }
+
     // 칸반보드: 상태별 할 일 조회
     @GetMapping("/status/{status}")
     public List<TodoResponseDto> getTodosByStatus(@PathVariable Status status) {
@@ -58,4 +110,18 @@ public class TodoController {
     public TodoResponseDto updateFocusTime(@PathVariable Long id, @RequestParam Long focusTime) {
         return todoService.updateTodoFocusTime(id, focusTime);
     }
+
+    // 집중시간 일괄 업데이트 (타이머 샘플을 모아서 전송, 서버에서 병합 후 주기적으로 반영)
+    @PostMapping("/focus-time/batch")
+    public ResponseEntity<?> updateFocusTimeBatch(@RequestBody List<FocusTimeSampleDto> samples) {
+        try {
+            int accepted = todoService.submitFocusTimeSamples(samples);
+            return ResponseEntity.accepted().body(Map.of("accepted", accepted));
+        } catch (IllegalArgumentException e) {
+            log.warn("집중시간 일괄 업데이트 실패 - 샘플 수: {}, 오류: {}", samples.size(), e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
 }
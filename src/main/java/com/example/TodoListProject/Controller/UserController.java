@@ -3,16 +3,19 @@ package com.example.TodoListProject.Controller;
 import com.example.TodoListProject.Dto.LoginRequestDto;
 import com.example.TodoListProject.Dto.UserRequestDto;
 import com.example.TodoListProject.Dto.UserResponseDto;
+import com.example.TodoListProject.Security.PasswordHashingBusyException;
 import com.example.TodoListProject.Service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,6 +28,8 @@ import java.util.Map;
 public class UserController {
     private final UserService userService;
 
+    private static final String NDJSON = "application/x-ndjson";
+
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody UserRequestDto userRequestDto) {
         try {
@@ -32,6 +37,9 @@ public class UserController {
             UserResponseDto responseDto = userService.register(userRequestDto);
             log.info("회원가입 성공: userId={}", responseDto.getUserId());
             return ResponseEntity.ok(responseDto);
+        } catch (PasswordHashingBusyException e) {
+            // ApiExceptionHandler 에서 429 응답
+            throw e;
         } catch (Exception e) {
             log.error("회원가입 실패: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -40,11 +48,41 @@ public class UserController {
         }
     }
 
+    // 사용자 목록 (기존 배열 응답, id 순 앞쪽 1000명까지 - 전체는 /users/page 로 이어서 조회)
     @GetMapping("/list")
     public ResponseEntity<?> getAllUsers() {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    // 사용자 목록 커서 페이지 (nextCursor 를 다음 요청의 cursor 로 전달)
+    @GetMapping("/page")
+    public ResponseEntity<?> getUserPage(@RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(userService.getUserPage(cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.error("사용자 목록 조회 실패: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    // 전체 사용자 목록 내보내기 (NDJSON 스트리밍)
+    @GetMapping(value = "/list/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("사용자 목록 내보내기 요청");
+        StreamingResponseBody body = userService::exportUsers;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getProfileCacheStats() {
+        return ResponseEntity.ok(userService.getProfileCacheStats());
+    }
+
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequestDto loginDto,
                                    HttpServletRequest request,
@@ -57,7 +95,15 @@ public class UserController {
             Map<String, Object> result = new HashMap<>();
             result.put("message", "로그인 성공");
             result.put("user", user);
+            // 서명 토큰 모드면 Authorization: Bearer 헤더로 보낼 토큰 포함
+            String accessToken = userService.issueAccessToken();
+            if (accessToken != null) {
+                result.put("accessToken", accessToken);
+            }
             return ResponseEntity.ok(result);
+        } catch (PasswordHashingBusyException e) {
+            // ApiExceptionHandler 에서 429 응답
+            throw e;
         } catch (Exception e) {
             log.error("로그인 실패: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -88,7 +134,7 @@ public class UserController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인된 사용자가 없습니다");
             }
             log.info("현재 사용자 정보 요청: userId={}", userDetails.getUsername());
-            UserResponseDto userResponseDto = userService.getCurrentUserByUserId(userDetails.getUsername());
+            UserResponseDto userResponseDto = userService.getCurrentUser(userDetails);
             return ResponseEntity.ok(userResponseDto);
         } catch (Exception e) {
             log.error("현재 사용자 정보 조회 실패: {}", e.getMessage());
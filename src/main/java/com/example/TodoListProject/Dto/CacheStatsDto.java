@@ -0,0 +1,24 @@
+package com.example.TodoListProject.Dto;
+
+import com.example.TodoListProject.Cache.BoundedCache;
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDto {
+    private Integer size; // 현재 항목 수
+    private Long hitCount; // 적중 횟수
+    private Long missCount; // 미스 횟수 (만료 포함)
+    private Long evictionCount; // 크기 초과/만료로 제거된 횟수
+
+    public static CacheStatsDto from(BoundedCache<?, ?> cache) {
+        return CacheStatsDto.builder()
+                .size(cache.size())
+                .hitCount(cache.getHitCount())
+                .missCount(cache.getMissCount())
+                .evictionCount(cache.getEvictionCount())
+                .build();
+    }
+}
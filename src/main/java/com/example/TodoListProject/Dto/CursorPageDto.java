@@ -0,0 +1,20 @@
+package com.example.TodoListProject.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 이어서 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.example.TodoListProject.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집중시간 구간 집계 한 칸
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FocusRollupDto {
+    private LocalDateTime bucketStart; // 구간 시작 시각
+    private Long totalSeconds; // 구간 내 집중시간 합계 (초 단위)
+}
@@ -0,0 +1,13 @@
+package com.example.TodoListProject.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FocusTimeSampleDto {
+    private Long todoId;
+    private Long focusTime; // 해당 할 일의 누적 집중시간 (초 단위)
+}
@@ -0,0 +1,15 @@
+package com.example.TodoListProject.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+    private Integer rank; // 순위 (1부터)
+    private Long userId; // 사용자 PK
+    private String userName;
+    private Long score; // 포인트 또는 집중시간(초)
+}
@@ -0,0 +1,20 @@
+package com.example.TodoListProject.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 획득 이력 (엔티티/연관관계 없이 필요한 컬럼만)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointHistoryDto {
+    private Long id;
+    private Long focusTimeUsed; // 포인트로 변환된 집중시간 (초 단위)
+    private Long pointsEarned; // 획득한 포인트
+    private LocalDateTime createdAt; // 획득 시각
+}
@@ -0,0 +1,21 @@
+package com.example.TodoListProject.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구매 기록 조회용 프로젝션 (user_purchases + shop_items 한 번의 조인)
+ */
+@Getter
+@AllArgsConstructor
+public class PurchaseHistoryRow {
+    private Long id;
+    private LocalDateTime purchasedAt;
+    private Long shopItemId;
+    private String itemName;
+    private String description;
+    private Long price;
+    private String category;
+}
@@ -0,0 +1,18 @@
+package com.example.TodoListProject.Dto;
+
+import com.example.TodoListProject.Enum.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBoardColumnDto {
+    private Status status;
+    private long count; // 컬럼의 할 일 수
+    private long totalFocusTime; // 컬럼 할 일들의 집중시간 합계 (초 단위)
+    private List<TodoResponseDto> todos;
+}
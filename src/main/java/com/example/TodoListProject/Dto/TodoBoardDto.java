@@ -0,0 +1,23 @@
+package com.example.TodoListProject.Dto;
+
+import com.example.TodoListProject.Enum.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 칸반보드 전체 스냅샷 (상태별 컬럼)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBoardDto {
+    private Long version; // 보드 버전 (할 일이 바뀔 때마다 증가)
+    private Map<Status, TodoBoardColumnDto> columns;
+
+    @JsonIgnore
+    private String etag; // 응답 헤더로만 전달
+}
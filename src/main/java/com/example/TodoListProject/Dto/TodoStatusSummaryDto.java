@@ -0,0 +1,15 @@
+package com.example.TodoListProject.Dto;
+
+import com.example.TodoListProject.Enum.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoStatusSummaryDto {
+    private Status status;
+    private Long count; // 해당 상태의 할 일 수
+    private Long totalFocusTime; // 해당 상태 할 일들의 집중시간 합계 (초 단위)
+}
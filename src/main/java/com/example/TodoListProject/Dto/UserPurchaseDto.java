@@ -18,6 +18,23 @@ public class UserPurchaseDto {
     private ShopItemDto shopItem;
     private LocalDateTime purchasedAt;
 
+    public static UserPurchaseDto fromRow(PurchaseHistoryRow row, UserResponseDto user) {
+        return UserPurchaseDto.builder()
+                .id(row.getId())
+                .user(user)
+                .shopItem(ShopItemDto.builder()
+                        .id(row.getShopItemId())
+                        .itemName(row.getItemName())
+                        .description(row.getDescription())
+                        .price(row.getPrice())
+                        .category(row.getCategory())
+                        .isPurchased(true)
+                        .canPurchase(false)
+                        .build())
+                .purchasedAt(row.getPurchasedAt())
+                .build();
+    }
+
     public static UserPurchaseDto fromEntity(UserPurchase userPurchase) {
         return UserPurchaseDto.builder()
                 .id(userPurchase.getId())
@@ -0,0 +1,47 @@
+package com.example.TodoListProject.Entity;
+
+import com.example.TodoListProject.Enum.RollupGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집중시간 구간 집계 (시간/일/주 단위, 사용자별 + 할 일별)
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "focus_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_focus_rollups_bucket",
+                columnNames = {"granularity", "user_id", "todo_id", "bucket_start"}))
+public class FocusRollup {
+    // 사용자 전체 합계 행의 todo_id
+    public static final long ALL_TODOS = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 할 일 PK, 사용자 전체 합계는 0
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    // 구간 시작 시각 (시간/일/주 단위로 절삭)
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // 구간 내 집중시간 합계 (초 단위)
+    @Column(name = "total_seconds", nullable = false)
+    private Long totalSeconds;
+}
@@ -0,0 +1,44 @@
+package com.example.TodoListProject.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집중시간 변경 이벤트 (추가만 함, 집계가 끝나면 rolled_up 만 표시)
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "focus_sessions",
+        indexes = @Index(name = "idx_focus_sessions_rolled_up", columnList = "rolled_up, id"))
+public class FocusSession {
+    // 집중시간 버퍼는 JDBC로 직접 넣으므로 IDENTITY 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 사용자/할 일 PK (연관관계 없이 값만 보관)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    // 집중시간 변화량 (초 단위, 줄인 경우 음수)
+    @Column(name = "delta_seconds", nullable = false)
+    private Long deltaSeconds;
+
+    @Column(name = "occurred_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime occurredAt = LocalDateTime.now();
+
+    // 집계 반영 여부
+    @Column(name = "rolled_up", nullable = false)
+    @Builder.Default
+    private Boolean rolledUp = false;
+}
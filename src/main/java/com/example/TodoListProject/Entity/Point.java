@@ -11,10 +11,13 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "points")
+@Table(name = "points",
+        indexes = @Index(name = "idx_points_user_created_at", columnList = "user_id, created_at"))
 public class Point {
+    // pooled 시퀀스 - IDENTITY는 insert 배치를 막으므로 사용하지 않음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "points_seq")
+    @SequenceGenerator(name = "points_seq", sequenceName = "points_seq", allocationSize = 50)
     private Long id;
     
     // 사용자 참조 (다대일 관계)
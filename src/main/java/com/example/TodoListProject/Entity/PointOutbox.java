@@ -0,0 +1,31 @@
+package com.example.TodoListProject.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 적립 대기 (집중시간 변경과 같은 트랜잭션에서 기록, 적립 후 삭제)
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "point_outbox",
+        indexes = @Index(name = "idx_point_outbox_user_id", columnList = "user_id, id"))
+public class PointOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 집중시간이 바뀐 사용자 PK
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -14,9 +14,13 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "todo")
+@Table(name = "todo",
+        indexes = @Index(name = "idx_user_status", columnList = "user_id, status"))
 public class Todo {
-    @Id @GeneratedValue
+    // pooled 시퀀스 (50개씩 미리 할당) - 일괄 생성 시 JDBC 배치 insert 가능
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String description; // 할 일 상세 설명
@@ -30,4 +34,9 @@ public class Todo {
     // 총 집중 시간 (초 단위)
     @Builder.Default
     private Long totalFocusTime = 0L;
+
+    // 낙관적 락 버전
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -8,7 +8,8 @@ import lombok.*;
 @Getter
 @Setter
 @Entity
-@Table(name = "todo_users")
+@Table(name = "todo_users",
+        indexes = @Index(name = "idx_todo_users_user_id", columnList = "user_id"))
 @Builder
 public class User {
 
@@ -29,4 +30,21 @@ public class User {
     @Builder.Default
     @Column(name = "current_points")
     private Long currentPoints = 0L;
+
+    // 이미 포인트로 변환된 누적 집중시간 (초 단위) - points.focus_time_used 합계와 항상 일치해야 함
+    @Builder.Default
+    @Column(name = "converted_focus_time", nullable = false)
+    private Long convertedFocusTime = 0L;
+
+    // 칸반보드 버전 - 할 일이 바뀔 때마다 UserRepository.incrementBoardVersion 으로만 증가
+    // (엔티티 저장 시에는 쓰지 않으므로 @Version 이 올라가지 않고, 오래된 값으로 덮어쓰지도 않음)
+    @Builder.Default
+    @Column(name = "board_version", insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long boardVersion = 0L;
+
+    // 낙관적 락 버전 (집중시간/포인트 동시 갱신 시 lost update 방지)
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
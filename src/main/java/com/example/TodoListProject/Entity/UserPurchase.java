@@ -11,10 +11,14 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "user_purchases")
+@Table(name = "user_purchases",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_purchases_user_item", columnNames = {"user_id", "shop_item_id"}),
+        indexes = @Index(name = "idx_user_purchases_user_purchased_at", columnList = "user_id, purchased_at"))
 public class UserPurchase {
+    // pooled 시퀀스 - IDENTITY는 insert 배치를 막으므로 사용하지 않음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_purchases_seq")
+    @SequenceGenerator(name = "user_purchases_seq", sequenceName = "user_purchases_seq", allocationSize = 50)
     private Long id;
 
     // 구매한 아이템의 ID
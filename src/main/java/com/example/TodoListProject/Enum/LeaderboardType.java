@@ -0,0 +1,6 @@
+package com.example.TodoListProject.Enum;
+
+public enum LeaderboardType {
+    POINTS,     // 현재 보유 포인트
+    FOCUS_TIME  // 총 집중시간
+}
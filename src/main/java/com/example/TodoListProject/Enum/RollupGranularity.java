@@ -0,0 +1,7 @@
+package com.example.TodoListProject.Enum;
+
+public enum RollupGranularity {
+    HOUR,   // 시간별
+    DAY,    // 일별
+    WEEK    // 주별 (월요일 시작)
+}
@@ -0,0 +1,31 @@
+package com.example.TodoListProject;
+
+import com.example.TodoListProject.Service.PointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 변환된 집중시간 누적값을 points 테이블 기준으로 백필/검증
+ * points.ledger.reconcile-on-startup=true 일 때만 기동 시 한 번 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "points.ledger.reconcile-on-startup", havingValue = "true")
+public class PointLedgerInitializer implements ApplicationRunner {
+
+    private final PointService pointService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            pointService.reconcileConvertedFocusTime();
+        } catch (Exception e) {
+            log.error("포인트 원장 정합성 검증 실패: ", e);
+        }
+    }
+}
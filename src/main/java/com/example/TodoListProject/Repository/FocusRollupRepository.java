@@ -0,0 +1,28 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Dto.FocusRollupDto;
+import com.example.TodoListProject.Entity.FocusRollup;
+import com.example.TodoListProject.Enum.RollupGranularity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FocusRollupRepository extends JpaRepository<FocusRollup, Long> {
+
+    // [from, to) 구간의 집계 (uk_focus_rollups_bucket 인덱스 범위 조회)
+    @Query("SELECT new com.example.TodoListProject.Dto.FocusRollupDto(r.bucketStart, r.totalSeconds) " +
+            "FROM FocusRollup r WHERE r.granularity = :granularity AND r.userId = :userId AND r.todoId = :todoId " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<FocusRollupDto> findBuckets(@Param("granularity") RollupGranularity granularity,
+                                     @Param("userId") Long userId,
+                                     @Param("todoId") Long todoId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     Limit limit);
+}
@@ -0,0 +1,9 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Entity.FocusSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FocusSessionRepository extends JpaRepository<FocusSession, Long> {
+}
@@ -0,0 +1,26 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Entity.PointOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface PointOutboxRepository extends JpaRepository<PointOutbox, Long> {
+
+    // 적립 대기 중인 사용자와 사용자별 마지막 대기 id (오래 기다린 사용자부터)
+    @Query("SELECT o.userId, MAX(o.id) FROM PointOutbox o GROUP BY o.userId ORDER BY MIN(o.id)")
+    List<Object[]> findPendingUsers(Limit limit);
+
+    // 적립이 끝난 대기 행 삭제 (처리 중 새로 들어온 행은 남김)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PointOutbox o WHERE o.userId = :userId AND o.id <= :maxId")
+    int deleteProcessed(@Param("userId") Long userId, @Param("maxId") Long maxId);
+}
@@ -1,17 +1,40 @@
 package com.example.TodoListProject.Repository;
 
+import com.example.TodoListProject.Dto.PointHistoryDto;
 import com.example.TodoListProject.Entity.Point;
 import com.example.TodoListProject.Entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface PointRepository extends JpaRepository<Point, Long> {
+public interface PointRepository extends JpaRepository<Point, Long>, PointRepositoryCustom {
     
     // 사용자의 모든 포인트 기록 조회 (최신순)
     List<Point> findByUserOrderByCreatedAtDesc(User user);
+
+    // 사용자의 포인트로 변환된 집중시간 합계 (원장 요약값 백필용)
+    @Query("SELECT COALESCE(SUM(p.focusTimeUsed), 0) FROM Point p WHERE p.user = :user")
+    Long sumFocusTimeUsedByUser(@Param("user") User user);
+
+    // 포인트 이력 최신순 첫 페이지 (created_at, id 기준 keyset)
+    @Query("SELECT new com.example.TodoListProject.Dto.PointHistoryDto(p.id, p.focusTimeUsed, p.pointsEarned, p.createdAt) " +
+            "FROM Point p WHERE p.user.id = :userId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointHistoryDto> findHistory(@Param("userId") Long userId, Limit limit);
+
+    // 커서 (createdAt, id) 이후의 포인트 이력
+    @Query("SELECT new com.example.TodoListProject.Dto.PointHistoryDto(p.id, p.focusTimeUsed, p.pointsEarned, p.createdAt) " +
+            "FROM Point p WHERE p.user.id = :userId " +
+            "AND (p.createdAt < :cursorAt OR (p.createdAt = :cursorAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointHistoryDto> findHistoryBefore(@Param("userId") Long userId,
+                                            @Param("cursorAt") LocalDateTime cursorAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Limit limit);
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Dto.PointHistoryDto;
+
+import java.util.stream.Stream;
+
+/**
+ * 내보내기용 스트리밍 조회 (fetch size 를 설정값으로 지정해야 해서 @Query 대신 직접 구현)
+ */
+public interface PointRepositoryCustom {
+
+    // 전체 이력 스트리밍 (app.export.fetch-size 단위로 가져오므로 힙에 전부 올리지 않음, 트랜잭션 안에서 닫아야 함)
+    Stream<PointHistoryDto> streamHistory(Long userId);
+}
@@ -0,0 +1,33 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Dto.PointHistoryDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+public class PointRepositoryCustomImpl implements PointRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int exportFetchSize;
+
+    public PointRepositoryCustomImpl(@Value("${app.export.fetch-size:500}") int exportFetchSize) {
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Stream<PointHistoryDto> streamHistory(Long userId) {
+        return entityManager.createQuery(
+                        "SELECT new com.example.TodoListProject.Dto.PointHistoryDto(p.id, p.focusTimeUsed, p.pointsEarned, p.createdAt) " +
+                                "FROM Point p WHERE p.user.id = :userId " +
+                                "ORDER BY p.createdAt DESC, p.id DESC", PointHistoryDto.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,13 +1,33 @@
 package com.example.TodoListProject.Repository;
 
+import com.example.TodoListProject.Dto.TodoStatusSummaryDto;
 import com.example.TodoListProject.Entity.Todo;
 import com.example.TodoListProject.Entity.User;
 import com.example.TodoListProject.Enum.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo,Long> {
+public interface TodoRepository extends JpaRepository<Todo,Long>, JpaSpecificationExecutor<Todo> {
     List<Todo> findByUser(User user);
     List<Todo> findByUserAndStatus(User user, Status status);
+    List<Todo> findByUserOrderByIdAsc(User user);
+
+    // 소유자까지 조건에 넣어 조회 (사용자 엔티티를 읽지 않음)
+    @Query("SELECT t FROM Todo t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<Todo> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 주어진 ID 중 해당 사용자 소유인 할 일 ID만 조회
+    @Query("SELECT t.id FROM Todo t WHERE t.user = :user AND t.id IN :ids")
+    List<Long> findIdsByUserAndIdIn(@Param("user") User user, @Param("ids") Collection<Long> ids);
+
+    // 상태별 할 일 수 / 집중시간 합계 ((user_id, status) 인덱스 사용)
+    @Query("SELECT new com.example.TodoListProject.Dto.TodoStatusSummaryDto(t.status, COUNT(t), COALESCE(SUM(t.totalFocusTime), 0)) " +
+            "FROM Todo t WHERE t.user = :user GROUP BY t.status")
+    List<TodoStatusSummaryDto> summarizeByStatus(@Param("user") User user);
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Entity.Todo;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Enum.Status;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 할 일 목록 필터 조건 (값이 없는 조건은 null 을 반환해 where 절에서 빠지도록 함)
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    public static Specification<Todo> ownedBy(User user) {
+        return (root, query, cb) -> cb.equal(root.get("user"), user);
+    }
+
+    public static Specification<Todo> hasStatus(Status status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    // 앞부분 일치만 허용 (LIKE 'prefix%' 는 인덱스 범위 검색 가능)
+    public static Specification<Todo> titleStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+        String escaped = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return (root, query, cb) -> cb.like(root.get("title"), escaped + "%", '\\');
+    }
+
+    public static Specification<Todo> focusTimeBetween(Long min, Long max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        if (max == null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalFocusTime"), min);
+        }
+        if (min == null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalFocusTime"), max);
+        }
+        return (root, query, cb) -> cb.between(root.get("totalFocusTime"), min, max);
+    }
+
+    // keyset 커서: 이전 페이지 마지막 id 이후
+    public static Specification<Todo> idGreaterThan(Long id) {
+        return id == null ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+}
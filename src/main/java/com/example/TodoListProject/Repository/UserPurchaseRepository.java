@@ -1,13 +1,16 @@
 package com.example.TodoListProject.Repository;
 
+import com.example.TodoListProject.Dto.PurchaseHistoryRow;
 import com.example.TodoListProject.Entity.User;
 import com.example.TodoListProject.Entity.UserPurchase;
 import com.example.TodoListProject.Entity.ShopItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +27,24 @@ public interface UserPurchaseRepository extends JpaRepository<UserPurchase, Long
     // 사용자가 구매한 아이템 ID 목록
     @Query("SELECT up.shopItem.id FROM UserPurchase up WHERE up.user = :user")
     List<Long> findPurchasedItemIdsByUser(@Param("user") User user);
+
+    // 구매 기록 + 아이템 정보를 한 번의 조인으로 조회 (최신순)
+    @Query("SELECT new com.example.TodoListProject.Dto.PurchaseHistoryRow(" +
+            "up.id, up.purchasedAt, si.id, si.itemName, si.description, si.price, si.category) " +
+            "FROM UserPurchase up JOIN up.shopItem si " +
+            "WHERE up.user.id = :userId " +
+            "ORDER BY up.purchasedAt DESC, up.id DESC")
+    List<PurchaseHistoryRow> findHistoryRows(@Param("userId") Long userId, Limit limit);
+
+    // 커서 (purchasedAt, id) 이후의 구매 기록 (최신순 keyset 페이지)
+    @Query("SELECT new com.example.TodoListProject.Dto.PurchaseHistoryRow(" +
+            "up.id, up.purchasedAt, si.id, si.itemName, si.description, si.price, si.category) " +
+            "FROM UserPurchase up JOIN up.shopItem si " +
+            "WHERE up.user.id = :userId " +
+            "AND (up.purchasedAt < :cursorAt OR (up.purchasedAt = :cursorAt AND up.id < :cursorId)) " +
+            "ORDER BY up.purchasedAt DESC, up.id DESC")
+    List<PurchaseHistoryRow> findHistoryRowsBefore(@Param("userId") Long userId,
+                                                   @Param("cursorAt") LocalDateTime cursorAt,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Limit limit);
 }
\ No newline at end of file
@@ -1,14 +1,81 @@
 package com.example.TodoListProject.Repository;
 
+import com.example.TodoListProject.Dto.UserResponseDto;
 import com.example.TodoListProject.Entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User,Long> {
+public interface UserRepository extends JpaRepository<User,Long>, UserRepositoryCustom {
 
     boolean existsByUserId(String userId);
 
     Optional<User> findByUserId(String userId);
 
+    // 사용자 목록 첫 페이지 (공개 컬럼만, id 기준 keyset)
+    @Query("SELECT new com.example.TodoListProject.Dto.UserResponseDto(u.id, u.userId, u.userName, u.totalFocusTime, u.currentPoints) " +
+            "FROM User u ORDER BY u.id")
+    List<UserResponseDto> findProfiles(Limit limit);
+
+    // 커서 id 이후의 사용자 목록
+    @Query("SELECT new com.example.TodoListProject.Dto.UserResponseDto(u.id, u.userId, u.userName, u.totalFocusTime, u.currentPoints) " +
+            "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserResponseDto> findProfilesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // 총 집중시간만 조회
+    @Query("SELECT COALESCE(u.totalFocusTime, 0) FROM User u WHERE u.id = :id")
+    Long findTotalFocusTimeById(@Param("id") Long id);
+
+    // 로그인 아이디로 기본키만 조회
+    @Query("SELECT u.id FROM User u WHERE u.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") String userId);
+
+    // 비밀번호 해시 교체 (로그인 시 BCrypt cost 변경 반영)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.userPw = :userPw, u.version = u.version + 1 WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("userPw") String userPw);
+
+    // 칸반보드 버전만 조회
+    @Query("SELECT u.boardVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findBoardVersionById(@Param("id") Long id);
+
+    // 총 집중시간에 차이만큼 더함 (엔티티를 읽지 않는 원자적 증가, 보드 버전도 함께 증가)
+    // 버전을 올려서 이 사용자를 먼저 읽어 둔 다른 트랜잭션의 저장이 충돌로 감지되게 함
+    @Modifying
+    @Query("UPDATE User u SET u.totalFocusTime = COALESCE(u.totalFocusTime, 0) + :delta, " +
+            "u.version = u.version + 1, u.boardVersion = u.boardVersion + 1 WHERE u.id = :id")
+    int addTotalFocusTime(@Param("id") Long id, @Param("delta") Long delta);
+
+    // 보유 포인트가 충분할 때만 차감 (영향받은 행 수 반환, 0이면 포인트 부족)
+    // 버전도 함께 올려서 이 사용자를 먼저 읽어 둔 다른 트랜잭션의 저장이 충돌로 감지되게 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.currentPoints = u.currentPoints - :price, u.version = u.version + 1 " +
+            "WHERE u.id = :id AND u.currentPoints >= :price")
+    int deductPointsIfSufficient(@Param("id") Long id, @Param("price") Long price);
+
+    // 칸반보드 버전 증가 (할 일 생성/수정/삭제/집중시간 변경 시)
+    @Modifying
+    @Query("UPDATE User u SET u.boardVersion = u.boardVersion + 1 WHERE u.id = :id")
+    int incrementBoardVersion(@Param("id") Long id);
+
+    // 변환된 집중시간을 포인트 이력 합계와 다른 사용자만 합계로 보정 (버전도 올려 진행 중인 적립과 충돌 감지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.convertedFocusTime = " +
+            "(SELECT COALESCE(SUM(p.focusTimeUsed), 0) FROM Point p WHERE p.user.id = u.id), u.version = u.version + 1 " +
+            "WHERE u.convertedFocusTime <> (SELECT COALESCE(SUM(p2.focusTimeUsed), 0) FROM Point p2 WHERE p2.user.id = u.id)")
+    int reconcileConvertedFocusTime();
+
+    // 낙관적 락 버전만 조회 (리더보드 갱신 순서 판단용)
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Long findVersionById(@Param("id") Long id);
+
+    // 현재 보유 포인트만 조회
+    @Query("SELECT u.currentPoints FROM User u WHERE u.id = :id")
+    Long findCurrentPointsById(@Param("id") Long id);
+
 }
\ No newline at end of file
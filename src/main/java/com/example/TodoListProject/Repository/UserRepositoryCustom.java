@@ -0,0 +1,18 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Dto.UserResponseDto;
+
+import java.util.stream.Stream;
+
+/**
+ * 전체 사용자 스트리밍 조회 (fetch size 를 설정값으로 지정해야 해서 @Query 대신 직접 구현)
+ * 스트림은 app.export.fetch-size 단위로 가져오므로 힙에 전부 올리지 않음, 트랜잭션 안에서 닫아야 함
+ */
+public interface UserRepositoryCustom {
+
+    // 전체 사용자 공개 컬럼 (id 순)
+    Stream<UserResponseDto> streamProfiles();
+
+    // 리더보드 재구성용 점수 (id, 이름, 포인트, 총 집중시간, 버전)
+    Stream<Object[]> streamLeaderboardScores();
+}
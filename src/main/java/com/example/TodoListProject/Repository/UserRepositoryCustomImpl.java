@@ -0,0 +1,42 @@
+package com.example.TodoListProject.Repository;
+
+import com.example.TodoListProject.Dto.UserResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int exportFetchSize;
+
+    public UserRepositoryCustomImpl(@Value("${app.export.fetch-size:500}") int exportFetchSize) {
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public Stream<UserResponseDto> streamProfiles() {
+        return stream(entityManager.createQuery(
+                "SELECT new com.example.TodoListProject.Dto.UserResponseDto(u.id, u.userId, u.userName, u.totalFocusTime, u.currentPoints) " +
+                        "FROM User u ORDER BY u.id", UserResponseDto.class));
+    }
+
+    @Override
+    public Stream<Object[]> streamLeaderboardScores() {
+        return stream(entityManager.createQuery(
+                "SELECT u.id, u.userName, COALESCE(u.currentPoints, 0), COALESCE(u.totalFocusTime, 0), u.version FROM User u",
+                Object[].class));
+    }
+
+    private <T> Stream<T> stream(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.TodoListProject.Security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 인증된 사용자 정보 + DB 기본키(todo_users.id)
+ * 요청마다 로그인 아이디로 사용자를 다시 조회하지 않도록 principal 에 함께 보관
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final Long id;
+
+    public AuthenticatedUser(Long id, String username, String password,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+}
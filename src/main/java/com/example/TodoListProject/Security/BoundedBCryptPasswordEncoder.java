@@ -0,0 +1,47 @@
+package com.example.TodoListProject.Security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해시/검증을 PasswordHashingExecutor 에서 실행하는 BCrypt 인코더
+ * 저장된 해시의 cost 가 설정값과 다르면 upgradeEncoding 이 true 를 반환하므로
+ * 로그인 성공 시 DaoAuthenticationProvider 가 새 cost 로 다시 해시해 저장함 (UserDetailsPasswordService)
+ */
+public class BoundedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+    private final int cost;
+
+    public BoundedBCryptPasswordEncoder(int cost, PasswordHashingExecutor executor) {
+        this.delegate = new BCryptPasswordEncoder(cost);
+        this.executor = executor;
+        this.cost = cost;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 설정 cost 와 다른 해시는 올리든 내리든 다시 해시 (BCrypt 가 아닌 값은 검증 실패하므로 제외)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != cost;
+    }
+}
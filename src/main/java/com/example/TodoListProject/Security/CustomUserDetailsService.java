@@ -1,30 +1,51 @@
 package com.example.TodoListProject.Security;
 
-import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Service.UserProfileCache;
+import com.example.TodoListProject.Service.UserProfileCache.UserProfile;
 import com.example.TodoListProject.Repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserProfileCache userProfileCache;
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        // DB에서 사용자 정보 조회
-        User user = userRepository.findByUserId(userId)
+        // 사용자 정보 조회 (캐시에 없을 때만 DB 조회)
+        UserProfile user = userProfileCache.findByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-        // UserDetails 객체로 변환해 반환
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUserId())
-                .password(user.getUserPw())
-                .authorities("ROLE_USER")
-                .build();
+        // UserDetails 객체로 변환해 반환 (기본키를 함께 담아 이후 요청에서 재조회하지 않음)
+        return new AuthenticatedUser(
+                user.id(),
+                user.userId(),
+                user.userPw(),
+                AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    /**
+     * 로그인 성공 후 저장된 해시의 cost 가 설정값과 다르면 호출됨 (newPassword 는 새 cost 로 해시된 값)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthenticatedUser principal = (AuthenticatedUser) user;
+        userRepository.updatePassword(principal.getId(), newPassword);
+        userProfileCache.invalidate(principal.getId());
+        log.info("비밀번호 해시 cost 갱신 - 사용자: {}", principal.getUsername());
+
+        return new AuthenticatedUser(principal.getId(), principal.getUsername(), newPassword, principal.getAuthorities());
     }
 }
@@ -0,0 +1,11 @@
+package com.example.TodoListProject.Security;
+
+/**
+ * 비밀번호 해시 작업 큐가 가득 찼거나 대기 시간을 넘긴 경우 (HTTP 429로 응답)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
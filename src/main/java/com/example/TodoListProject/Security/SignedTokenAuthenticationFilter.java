@@ -0,0 +1,42 @@
+package com.example.TodoListProject.Security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 토큰을 검증해 SecurityContext 설정
+ * 검증 실패 시 인증 정보 없이 다음 필터로 넘기므로 보호된 경로는 접근 거부됨
+ */
+@RequiredArgsConstructor
+public class SignedTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SignedTokenService signedTokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            signedTokenService.verify(header.substring(BEARER_PREFIX.length()).trim())
+                    .ifPresent(user -> {
+                        SecurityContext context = SecurityContextHolder.createEmptyContext();
+                        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                                user, null, user.getAuthorities()));
+                        SecurityContextHolder.setContext(context);
+                    });
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.TodoListProject.Security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * HMAC 서명 토큰 발급/검증 (세션 대신 사용하는 무상태 인증)
+ *
+ * 토큰 = base64url(키ID|만료시각|사용자PK|권한목록|로그인아이디) + "." + base64url(HMAC-SHA256)
+ * 사용자 정보와 권한이 토큰 안에 있으므로 검증 시 DB 조회나 세션 조회가 없음
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token.enabled", havingValue = "true")
+public class SignedTokenService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final TokenKeyStore keyStore;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public SignedTokenService(TokenKeyStore keyStore,
+                              @Value("${auth.token.ttl-seconds:3600}") long ttlSeconds) {
+        this(keyStore, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    SignedTokenService(TokenKeyStore keyStore, Duration ttl, Clock clock) {
+        this.keyStore = keyStore;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * 인증된 사용자에 대한 토큰 발급 (활성 키로 서명)
+     */
+    public String issue(AuthenticatedUser user) {
+        TokenKeyStore.SigningKey signingKey = keyStore.activeKey();
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String roles = user.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        String payload = String.join("|", signingKey.id(), Long.toString(expiresAt),
+                user.getId().toString(), roles, user.getUsername());
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(signingKey.key(), payloadBytes));
+    }
+
+    /**
+     * 토큰 검증 - 서명이 맞고 만료되지 않았으면 사용자 정보 반환
+     */
+    public Optional<AuthenticatedUser> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] payloadBytes = DECODER.decode(token.substring(0, dot));
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+
+            // 키ID|만료시각|사용자PK|권한목록|로그인아이디 (로그인 아이디는 마지막이라 | 포함 가능)
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 5);
+            if (fields.length != 5) {
+                return Optional.empty();
+            }
+
+            SecretKeySpec key = keyStore.find(fields[0]);
+            if (key == null || !MessageDigest.isEqual(sign(key, payloadBytes), signature)) {
+                return Optional.empty();
+            }
+            if (Long.parseLong(fields[1]) <= clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new AuthenticatedUser(
+                    Long.parseLong(fields[2]),
+                    fields[4],
+                    "",
+                    AuthorityUtils.commaSeparatedStringToAuthorityList(fields[3])));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Base64 / 숫자 형식
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(SecretKeySpec key, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(TokenKeyStore.ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명 실패", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.TodoListProject.Security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 토큰 서명 키 저장소 (로컬 파일 기반 키 교체 지원)
+ *
+ * 키 파일 형식 (properties):
+ *   active=2026-10
+ *   key.2026-10=(Base64 비밀키, 32바이트 이상)
+ *   key.2026-07=(이전 키, 기존 토큰이 만료될 때까지 검증용으로 유지)
+ *
+ * 파일이 바뀌면 주기적으로 다시 읽으므로 재시작 없이 키를 교체할 수 있음
+ * 키 파일이 없으면 auth.token.secret 하나만 사용, 그마저 없으면 임의 키 생성 (단일 서버 개발용)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token.enabled", havingValue = "true")
+@Slf4j
+public class TokenKeyStore {
+
+    static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final String DEFAULT_KEY_ID = "default";
+
+    private final Path keyFile;
+    private final String secret;
+
+    private volatile Keys keys;
+    private volatile long keyFileModifiedAt;
+
+    public TokenKeyStore(@Value("${auth.token.key-file:}") String keyFile,
+                         @Value("${auth.token.secret:}") String secret) {
+        this.keyFile = keyFile.isBlank() ? null : Path.of(keyFile);
+        this.secret = secret;
+        this.keys = load();
+    }
+
+    /**
+     * 서명 키 (키 ID + 비밀키)
+     */
+    public record SigningKey(String id, SecretKeySpec key) {
+    }
+
+    // 새 토큰 서명에 쓰는 키
+    public SigningKey activeKey() {
+        Keys current = keys;
+        return new SigningKey(current.activeId, current.byId.get(current.activeId));
+    }
+
+    // 토큰 검증용 키 (교체 전 키 포함), 없으면 null
+    public SecretKeySpec find(String keyId) {
+        return keys.byId.get(keyId);
+    }
+
+    /**
+     * 키 파일이 바뀌었으면 다시 로드 (실패 시 기존 키 유지)
+     */
+    @Scheduled(fixedDelayString = "${auth.token.key-reload-interval-ms:60000}")
+    public void reloadIfChanged() {
+        if (keyFile == null) {
+            return;
+        }
+        try {
+            if (Files.getLastModifiedTime(keyFile).toMillis() != keyFileModifiedAt) {
+                keys = load();
+            }
+        } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+            // IllegalArgumentException: 키 값이 올바른 Base64가 아닌 경우
+            log.error("토큰 서명 키 재로드 실패 - 기존 키 유지: {}", e.getMessage());
+        }
+    }
+
+    private Keys load() {
+        if (keyFile != null) {
+            return loadFile();
+        }
+        if (!secret.isBlank()) {
+            return new Keys(DEFAULT_KEY_ID, Map.of(DEFAULT_KEY_ID, toKey(DEFAULT_KEY_ID, secret)));
+        }
+
+        log.warn("토큰 서명 키가 설정되지 않아 임의 키를 생성합니다. 재시작하거나 서버가 여러 대면 기존 토큰이 무효가 됩니다.");
+        byte[] random = new byte[MIN_KEY_BYTES];
+        new SecureRandom().nextBytes(random);
+        return new Keys(DEFAULT_KEY_ID, Map.of(DEFAULT_KEY_ID, new SecretKeySpec(random, ALGORITHM)));
+    }
+
+    private Keys loadFile() {
+        Properties properties = new Properties();
+        long modifiedAt;
+        try (Reader reader = Files.newBufferedReader(keyFile, StandardCharsets.UTF_8)) {
+            modifiedAt = Files.getLastModifiedTime(keyFile).toMillis();
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("토큰 서명 키 파일을 읽을 수 없습니다: " + keyFile, e);
+        }
+
+        Map<String, SecretKeySpec> byId = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("key.")) {
+                String id = name.substring("key.".length());
+                byId.put(id, toKey(id, properties.getProperty(name)));
+            }
+        }
+        String activeId = properties.getProperty("active", "").trim();
+        if (!byId.containsKey(activeId)) {
+            throw new IllegalStateException("활성 키(active)가 키 목록에 없습니다: " + activeId);
+        }
+
+        keyFileModifiedAt = modifiedAt;
+        log.info("토큰 서명 키 로드 완료 - 활성 키: {}, 전체 키 수: {}", activeId, byId.size());
+        return new Keys(activeId, Map.copyOf(byId));
+    }
+
+    private SecretKeySpec toKey(String id, String base64) {
+        // 키 ID는 토큰 구분자(|, .)를 포함할 수 없음
+        if (id.isBlank() || id.contains("|") || id.contains(".")) {
+            throw new IllegalStateException("사용할 수 없는 키 ID입니다: " + id);
+        }
+        byte[] bytes = Base64.getDecoder().decode(base64.trim());
+        if (bytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("토큰 서명 키는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다: " + id);
+        }
+        return new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    private record Keys(String activeId, Map<String, SecretKeySpec> byId) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.FocusRollupDto;
+import com.example.TodoListProject.Entity.FocusRollup;
+import com.example.TodoListProject.Entity.FocusSession;
+import com.example.TodoListProject.Enum.RollupGranularity;
+import com.example.TodoListProject.Repository.FocusRollupRepository;
+import com.example.TodoListProject.Repository.FocusSessionRepository;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Security.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * 집중시간 통계 (통계 대시보드 / 성과 분석 위젯)
+ * 조회는 FocusRollupPipeline 이 미리 집계한 focus_rollups 만 읽고 원본 이벤트는 읽지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FocusAnalyticsService {
+
+    // 한 번에 돌려주는 최대 구간 수
+    private static final int MAX_BUCKETS = 1000;
+
+    private final FocusSessionRepository focusSessionRepository;
+    private final FocusRollupRepository focusRollupRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 집중시간 변경 이벤트 기록 (호출한 쪽 트랜잭션에 포함)
+     */
+    @Transactional
+    public void recordSession(Long userId, Long todoId, long deltaSeconds) {
+        focusSessionRepository.save(FocusSession.builder()
+                .userId(userId)
+                .todoId(todoId)
+                .deltaSeconds(deltaSeconds)
+                .build());
+    }
+
+    /**
+     * 사용자 전체 집중시간 구간 집계
+     */
+    public List<FocusRollupDto> getUserFocus(UserDetails userDetails, RollupGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        return findBuckets(currentUserId(userDetails), FocusRollup.ALL_TODOS, granularity, from, to);
+    }
+
+    /**
+     * 할 일별 집중시간 구간 집계 (다른 사용자의 할 일이면 빈 목록)
+     */
+    public List<FocusRollupDto> getTodoFocus(UserDetails userDetails, Long todoId, RollupGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        return findBuckets(currentUserId(userDetails), todoId, granularity, from, to);
+    }
+
+    // 시각이 속한 구간의 시작 시각
+    public static LocalDateTime bucketStart(RollupGranularity granularity, LocalDateTime at) {
+        return switch (granularity) {
+            case HOUR -> at.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> at.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> at.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+
+    private List<FocusRollupDto> findBuckets(Long userId, Long todoId, RollupGranularity granularity,
+                                             LocalDateTime from, LocalDateTime to) {
+        // 기본 범위: 시간별 최근 24시간, 일별 최근 30일, 주별 최근 12주 (현재 구간 포함)
+        LocalDateTime end = to != null ? to : next(granularity, bucketStart(granularity, LocalDateTime.now()));
+        LocalDateTime start = from != null ? from : switch (granularity) {
+            case HOUR -> end.minusHours(24);
+            case DAY -> end.minusDays(30);
+            case WEEK -> end.minusWeeks(12);
+        };
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 앞이어야 합니다.");
+        }
+        return focusRollupRepository.findBuckets(granularity, userId, todoId, start, end, Limit.of(MAX_BUCKETS));
+    }
+
+    private LocalDateTime next(RollupGranularity granularity, LocalDateTime bucketStart) {
+        return switch (granularity) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+        };
+    }
+
+    private Long currentUserId(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        return userRepository.findIdByUserId(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Entity.FocusRollup;
+import com.example.TodoListProject.Enum.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집중시간 이벤트 -> 시간/일/주 구간 집계 파이프라인
+ * 아직 집계되지 않은 이벤트를 잠그고 읽어 구간별로 합친 뒤, 집계 행에 더하고 이벤트를 집계됨으로 표시 (한 트랜잭션)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FocusRollupPipeline {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${analytics.focus-rollup.interval-ms:60000}")
+    public void rollUp() {
+        try {
+            int total = 0;
+            Integer processed;
+            do {
+                processed = transactionTemplate.execute(status -> rollUpBatch());
+                total += processed;
+            } while (processed == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("집중시간 집계 완료 - 이벤트 수: {}", total);
+            }
+        } catch (Exception e) {
+            // 표시되지 않은 이벤트는 다음 주기에 다시 집계
+            log.error("집중시간 집계 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private int rollUpBatch() {
+        List<Event> events = jdbcTemplate.query(
+                "SELECT id, user_id, todo_id, delta_seconds, occurred_at FROM focus_sessions " +
+                        "WHERE rolled_up = FALSE ORDER BY id LIMIT :limit FOR UPDATE",
+                new MapSqlParameterSource("limit", BATCH_SIZE),
+                (rs, rowNum) -> new Event(rs.getLong("id"), rs.getLong("user_id"), rs.getLong("todo_id"),
+                        rs.getLong("delta_seconds"), rs.getObject("occurred_at", LocalDateTime.class)));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 구간별 합계 (할 일별 + 사용자 전체)
+        Map<BucketKey, Long> sums = new HashMap<>();
+        for (Event event : events) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDateTime bucketStart = FocusAnalyticsService.bucketStart(granularity, event.occurredAt);
+                sums.merge(new BucketKey(granularity, event.userId, event.todoId, bucketStart), event.deltaSeconds, Long::sum);
+                sums.merge(new BucketKey(granularity, event.userId, FocusRollup.ALL_TODOS, bucketStart), event.deltaSeconds, Long::sum);
+            }
+        }
+        upsert(sums);
+
+        jdbcTemplate.update("UPDATE focus_sessions SET rolled_up = TRUE WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", events.stream().map(Event::id).toList()));
+        return events.size();
+    }
+
+    // 있는 구간은 더하고, 없는 구간만 새로 넣음
+    private void upsert(Map<BucketKey, Long> sums) {
+        List<MapSqlParameterSource> rows = new ArrayList<>(sums.size());
+        sums.forEach((key, seconds) -> rows.add(new MapSqlParameterSource()
+                .addValue("granularity", key.granularity.name())
+                .addValue("userId", key.userId)
+                .addValue("todoId", key.todoId)
+                .addValue("bucketStart", key.bucketStart)
+                .addValue("seconds", seconds)));
+
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE focus_rollups SET total_seconds = total_seconds + :seconds " +
+                        "WHERE granularity = :granularity AND user_id = :userId AND todo_id = :todoId AND bucket_start = :bucketStart",
+                rows.toArray(new MapSqlParameterSource[0]));
+
+        List<MapSqlParameterSource> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(rows.get(i));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO focus_rollups (granularity, user_id, todo_id, bucket_start, total_seconds) " +
+                            "VALUES (:granularity, :userId, :todoId, :bucketStart, :seconds)",
+                    inserts.toArray(new MapSqlParameterSource[0]));
+        }
+    }
+
+    private record Event(long id, long userId, long todoId, long deltaSeconds, LocalDateTime occurredAt) {
+    }
+
+    private record BucketKey(RollupGranularity granularity, long userId, long todoId, LocalDateTime bucketStart) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Enum.LeaderboardType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 집중시간 샘플 병합 버퍼
+ * 할 일별로 가장 마지막 값만 보관하고, 주기마다 한 번의 JDBC 배치로 반영
+ * 단건 API 저장(discard)은 할 일별 epoch 를 올려서, 이미 꺼내 반영 중인 오래된 샘플이 덮어쓰지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FocusTimeBuffer {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserProfileCache userProfileCache;
+    private final LeaderboardService leaderboardService;
+    private final PointAccrualWorker pointAccrualWorker;
+
+    // todoId -> 아직 반영되지 않은 최신 누적 집중시간과 epoch
+    // 꺼내서 반영 중인 할 일은 값 없이(focusTime == null) epoch 만 남겨 두고 반영이 끝나면 제거
+    private final ConcurrentHashMap<Long, Slot> pending = new ConcurrentHashMap<>();
+
+    private record Slot(Long focusTime, long epoch) {
+    }
+
+    // 소유권 확인이 끝난 샘플만 넣어야 함
+    public void offer(Long todoId, Long focusTime) {
+        pending.compute(todoId, (id, slot) -> new Slot(focusTime, slot != null ? slot.epoch() : 0L));
+    }
+
+    // 단건 API로 직접 저장된 경우 오래된 버퍼 값이 나중에 덮어쓰지 않도록 제거
+    // 반영 중인 샘플이 있을 수 있으므로 epoch 를 올려서 반영 트랜잭션이 해당 할 일을 건너뛰게 함 (표시는 flush 가 정리)
+    public void discard(Long todoId) {
+        pending.computeIfPresent(todoId, (id, slot) -> new Slot(null, slot.epoch() + 1));
+    }
+
+    public int pendingCount() {
+        return (int) pending.values().stream().filter(slot -> slot.focusTime() != null).count();
+    }
+
+    // 반영 중 표시(값 없는 Slot)는 flush 끝에 정리하므로 한 번에 하나만 실행
+    @Scheduled(fixedDelayString = "${todo.focus-time.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 버퍼 비우기 (id 순 정렬로 행 잠금 순서를 고정해 교착 방지)
+        Map<Long, Slot> drained = new TreeMap<>();
+        for (Long todoId : pending.keySet()) {
+            pending.computeIfPresent(todoId, (id, slot) -> {
+                if (slot.focusTime() == null) {
+                    return slot;
+                }
+                drained.put(id, slot);
+                return new Slot(null, slot.epoch());
+            });
+        }
+        if (drained.isEmpty()) {
+            pending.values().removeIf(slot -> slot.focusTime() == null);
+            return;
+        }
+
+        try {
+            Integer updated = transactionTemplate.execute(status -> write(drained));
+            log.debug("집중시간 버퍼 반영 완료 - 샘플: {}, 반영된 할 일: {}", drained.size(), updated);
+        } catch (Exception e) {
+            // 그 사이 더 새로운 값이나 단건 저장이 없었던 것만 다시 넣어 다음 주기에 재시도
+            drained.forEach((todoId, sample) -> pending.computeIfPresent(todoId, (id, slot) ->
+                    slot.focusTime() == null && slot.epoch() == sample.epoch() ? sample : slot));
+            log.error("집중시간 버퍼 반영 실패 - 샘플: {}, 오류: {}", drained.size(), e.getMessage(), e);
+        }
+        pending.values().removeIf(slot -> slot.focusTime() == null);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 꺼낸 뒤 단건 API로 저장된 할 일인지 (행 잠금을 잡은 뒤 확인해야 그 저장이 이미 커밋됐는지 알 수 있음)
+    private boolean isDiscarded(Long todoId, Slot sample) {
+        Slot current = pending.get(todoId);
+        return current == null || current.epoch() != sample.epoch();
+    }
+
+    private int write(Map<Long, Slot> drained) {
+        // 이전 집중시간을 잠근 상태로 읽어서 사용자 총 집중시간의 차이를 계산
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, user_id, total_focus_time FROM todo WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+                new MapSqlParameterSource("ids", drained.keySet()));
+
+        List<MapSqlParameterSource> todoUpdates = new ArrayList<>();
+        List<MapSqlParameterSource> sessions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> userDeltas = new TreeMap<>();
+        for (Map<String, Object> row : rows) {
+            Long todoId = ((Number) row.get("id")).longValue();
+            Long userId = ((Number) row.get("user_id")).longValue();
+            long previous = row.get("total_focus_time") != null ? ((Number) row.get("total_focus_time")).longValue() : 0L;
+            Slot sample = drained.get(todoId);
+            if (isDiscarded(todoId, sample)) {
+                continue;
+            }
+            long focusTime = sample.focusTime();
+
+            if (focusTime == previous) {
+                continue;
+            }
+            todoUpdates.add(new MapSqlParameterSource()
+                    .addValue("id", todoId)
+                    .addValue("focusTime", focusTime));
+            userDeltas.merge(userId, focusTime - previous, Long::sum);
+            sessions.add(new MapSqlParameterSource()
+                    .addValue("userId", userId)
+                    .addValue("todoId", todoId)
+                    .addValue("delta", focusTime - previous)
+                    .addValue("occurredAt", now));
+        }
+        if (todoUpdates.isEmpty()) {
+            return 0;
+        }
+
+        // 버전도 올려서 JPA로 같은 행을 읽어 둔 트랜잭션이 충돌을 감지하게 함
+        jdbcTemplate.batchUpdate(
+                "UPDATE todo SET total_focus_time = :focusTime, version = version + 1 WHERE id = :id",
+                todoUpdates.toArray(new MapSqlParameterSource[0]));
+
+        // 통계 집계용 집중시간 변경 이벤트
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO focus_sessions (user_id, todo_id, delta_seconds, occurred_at, rolled_up) " +
+                        "VALUES (:userId, :todoId, :delta, :occurredAt, FALSE)",
+                sessions.toArray(new MapSqlParameterSource[0]));
+
+        // 할 일이 바뀐 사용자는 차이가 0이어도 칸반보드 버전은 올림
+        List<MapSqlParameterSource> userUpdates = new ArrayList<>();
+        userDeltas.forEach((userId, delta) -> userUpdates.add(new MapSqlParameterSource()
+                .addValue("id", userId)
+                .addValue("delta", delta)));
+        jdbcTemplate.batchUpdate(
+                "UPDATE todo_users SET total_focus_time = COALESCE(total_focus_time, 0) + :delta, " +
+                        "version = version + 1, board_version = board_version + 1 WHERE id = :id",
+                userUpdates.toArray(new MapSqlParameterSource[0]));
+        userProfileCache.invalidate(userDeltas.keySet());
+        pointAccrualWorker.enqueueAll(userDeltas.keySet());
+
+        // 리더보드에는 변경 후 총 집중시간을 반영
+        jdbcTemplate.query("SELECT id, COALESCE(total_focus_time, 0) AS total_focus_time, version " +
+                        "FROM todo_users WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", userDeltas.keySet()),
+                (RowCallbackHandler) rs -> leaderboardService.recordScore(LeaderboardType.FOCUS_TIME,
+                        rs.getLong("id"), null, rs.getLong("total_focus_time"), rs.getLong("version")));
+        return todoUpdates.size();
+    }
+}
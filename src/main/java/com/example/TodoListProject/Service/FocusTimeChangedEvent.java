@@ -0,0 +1,7 @@
+package com.example.TodoListProject.Service;
+
+/**
+ * 사용자 총 집중시간 변경 도메인 이벤트 (커밋 이후 PointAccrualWorker 가 받음)
+ */
+public record FocusTimeChangedEvent(Long userId) {
+}
@@ -0,0 +1,259 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.LeaderboardEntryDto;
+import com.example.TodoListProject.Enum.LeaderboardType;
+import com.example.TodoListProject.Repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 포인트/집중시간 리더보드
+ * 메모리 순위 인덱스를 점수 변경 시(커밋 이후) 바로 갱신하고, 주기적으로 DB에서 다시 만들어 어긋난 값을 바로잡음
+ * 점수는 항상 변경 후의 절댓값으로 반영하므로 같은 갱신이 두 번 와도 결과가 같음
+ * 커밋 이후 콜백은 커밋 순서대로 실행된다는 보장이 없으므로 변경 후의 todo_users.version 을 함께 받아
+ * 이미 반영한 버전보다 오래된 갱신은 버림
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    private static final int MAX_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // lock 으로 보호 (boards 는 로드 여부 확인용으로 volatile)
+    private volatile Map<LeaderboardType, RankedIndex> boards;
+    private Map<Long, String> userNames;
+    // 종류별로 사용자마다 마지막으로 반영한 todo_users.version
+    private Map<LeaderboardType, Map<Long, Long>> versions;
+    // 재구성 중 들어온 갱신 (DB를 읽은 뒤 커밋된 변경이 새 인덱스에서 빠지지 않도록 교체 직전에 다시 반영)
+    private List<ScoreUpdate> replay;
+
+    public LeaderboardService(UserRepository userRepository, TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 상위 size 명
+    public List<LeaderboardEntryDto> getTop(LeaderboardType type, int size) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return toEntries(boards.get(type).top(limit(size)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자의 순위
+    public LeaderboardEntryDto getRank(LeaderboardType type, Long userId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            RankedIndex board = boards.get(type);
+            int rank = board.rankOf(userId);
+            if (rank < 0) {
+                throw new IllegalArgumentException("리더보드에 없는 사용자입니다. ID: " + userId);
+            }
+            return new LeaderboardEntryDto(rank, userId, userNames.get(userId), board.scoreOf(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 사용자 앞뒤로 size 명씩
+    public List<LeaderboardEntryDto> getAround(LeaderboardType type, Long userId, int size) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            RankedIndex board = boards.get(type);
+            int rank = board.rankOf(userId);
+            if (rank < 0) {
+                throw new IllegalArgumentException("리더보드에 없는 사용자입니다. ID: " + userId);
+            }
+            int around = limit(size);
+            return toEntries(board.range(rank - around, around * 2 + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 변경 후 호출 (score 는 변경 후의 값, version 은 변경 후의 todo_users.version) - 트랜잭션 안이면 커밋 이후에 반영
+     * userName 이 null 이면 기존 이름 유지
+     */
+    public void recordScore(LeaderboardType type, Long userId, String userName, Long score, Long version) {
+        afterCommit(() -> apply(type, userId, userName, score, version));
+    }
+
+    // 신규 가입 사용자를 0점으로 등록
+    public void recordNewUser(Long userId, String userName, Long version) {
+        afterCommit(() -> {
+            for (LeaderboardType type : LeaderboardType.values()) {
+                apply(type, userId, userName, 0L, version);
+            }
+        });
+    }
+
+    /**
+     * DB에서 순위 인덱스 전체를 다시 만듦 (만드는 동안에도 기존 인덱스로 조회 가능)
+     */
+    @Scheduled(fixedDelayString = "${leaderboard.rebuild-interval-ms:600000}",
+            initialDelayString = "${leaderboard.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Map<LeaderboardType, RankedIndex> rebuilt = new EnumMap<>(LeaderboardType.class);
+            for (LeaderboardType type : LeaderboardType.values()) {
+                rebuilt.put(type, new RankedIndex());
+            }
+            Map<Long, String> names = new HashMap<>();
+            Map<LeaderboardType, Map<Long, Long>> rebuiltVersions = new EnumMap<>(LeaderboardType.class);
+            for (LeaderboardType type : LeaderboardType.values()) {
+                rebuiltVersions.put(type, new HashMap<>());
+            }
+
+            lock.writeLock().lock();
+            try {
+                replay = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = userRepository.streamLeaderboardScores()) {
+                    rows.forEach(row -> {
+                        long userId = (Long) row[0];
+                        names.put(userId, (String) row[1]);
+                        rebuilt.get(LeaderboardType.POINTS).put(userId, (Long) row[2]);
+                        rebuilt.get(LeaderboardType.FOCUS_TIME).put(userId, (Long) row[3]);
+                        for (Map<Long, Long> applied : rebuiltVersions.values()) {
+                            applied.put(userId, (Long) row[4]);
+                        }
+                    });
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                // DB에서 읽은 버전보다 오래된 갱신은 applyTo 에서 버려짐
+                for (ScoreUpdate update : replay) {
+                    update.applyTo(rebuilt, names, rebuiltVersions);
+                }
+                replay = null;
+                boards = rebuilt;
+                userNames = names;
+                versions = rebuiltVersions;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("리더보드 재구성 완료 - 사용자 수: {}", names.size());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void apply(LeaderboardType type, Long userId, String userName, Long score, Long version) {
+        ScoreUpdate update = new ScoreUpdate(type, userId, userName, score != null ? score : 0L,
+                version != null ? version : 0L);
+        lock.writeLock().lock();
+        try {
+            if (replay != null) {
+                replay.add(update);
+            }
+            // 아직 로드 전이면 첫 로드가 DB 값을 읽으므로 인덱스 반영은 생략
+            if (boards != null) {
+                update.applyTo(boards, userNames, versions);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (boards != null) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        rebuildLock.lock();
+        try {
+            if (boards == null) {
+                rebuild();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private List<LeaderboardEntryDto> toEntries(List<RankedIndex.Ranked> ranked) {
+        return ranked.stream()
+                .map(entry -> new LeaderboardEntryDto(entry.rank(), entry.userId(),
+                        userNames.get(entry.userId()), entry.score()))
+                .collect(Collectors.toList());
+    }
+
+    private int limit(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    private record ScoreUpdate(LeaderboardType type, Long userId, String userName, long score, long version) {
+        // 같은 버전은 다시 반영 (절댓값이라 결과가 같음), 더 오래된 버전이면 나중에 커밋된 값을 덮어쓰지 않도록 버림
+        void applyTo(Map<LeaderboardType, RankedIndex> boards, Map<Long, String> userNames,
+                     Map<LeaderboardType, Map<Long, Long>> versions) {
+            Long applied = versions.get(type).get(userId);
+            if (applied != null && version < applied) {
+                return;
+            }
+            versions.get(type).put(userId, version);
+            boards.get(type).put(userId, score);
+            if (userName != null) {
+                userNames.put(userId, userName);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Entity.PointOutbox;
+import com.example.TodoListProject.Repository.PointOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 집중시간 변경 -> 포인트 자동 적립
+ *
+ * 1. 집중시간을 바꾸는 트랜잭션 안에서 point_outbox 에 사용자를 기록하고 FocusTimeChangedEvent 발행
+ * 2. 커밋 이후 이벤트를 받으면 다음 주기에 outbox 를 읽어 사용자별로 한 번만 적립 (같은 사용자의 여러 변경을 묶음)
+ * 3. 적립이 끝난 outbox 행 삭제 - 중간에 실패하거나 서버가 내려가도 행이 남아 있으므로 최소 한 번은 처리됨
+ *    적립은 변환된 집중시간 누적값 기준이라 다시 처리해도 중복 적립되지 않음
+ * 이벤트가 없어도 recovery-interval 마다 outbox 를 확인해 남은 행을 처리
+ */
+@Component
+@Slf4j
+public class PointAccrualWorker {
+
+    private static final int BATCH_USERS = 500;
+
+    private final PointOutboxRepository pointOutboxRepository;
+    private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long recoveryIntervalMillis;
+
+    private final AtomicBoolean signaled = new AtomicBoolean();
+    private volatile long lastPolledAt;
+
+    public PointAccrualWorker(PointOutboxRepository pointOutboxRepository,
+                              PointService pointService,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${points.accrual.recovery-interval-ms:30000}") long recoveryIntervalMillis) {
+        this.pointOutboxRepository = pointOutboxRepository;
+        this.pointService = pointService;
+        this.eventPublisher = eventPublisher;
+        this.recoveryIntervalMillis = recoveryIntervalMillis;
+    }
+
+    /**
+     * 집중시간이 바뀐 사용자 기록 (집중시간 변경과 같은 트랜잭션 안에서 호출)
+     */
+    public void enqueue(Long userId) {
+        pointOutboxRepository.save(PointOutbox.builder().userId(userId).build());
+        eventPublisher.publishEvent(new FocusTimeChangedEvent(userId));
+    }
+
+    public void enqueueAll(Collection<Long> userIds) {
+        pointOutboxRepository.saveAll(userIds.stream()
+                .map(userId -> PointOutbox.builder().userId(userId).build())
+                .toList());
+        userIds.forEach(userId -> eventPublisher.publishEvent(new FocusTimeChangedEvent(userId)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFocusTimeChanged(FocusTimeChangedEvent event) {
+        signaled.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${points.accrual.interval-ms:1000}")
+    public void drain() {
+        long now = System.currentTimeMillis();
+        if (!signaled.getAndSet(false) && now - lastPolledAt < recoveryIntervalMillis) {
+            return;
+        }
+        lastPolledAt = now;
+
+        int accrued = 0;
+        boolean failed = false;
+        List<Object[]> pending;
+        do {
+            pending = pointOutboxRepository.findPendingUsers(Limit.of(BATCH_USERS));
+            for (Object[] row : pending) {
+                Long userId = (Long) row[0];
+                Long maxId = (Long) row[1];
+                try {
+                    pointService.accruePoints(userId);
+                    pointOutboxRepository.deleteProcessed(userId, maxId);
+                    accrued++;
+                } catch (Exception e) {
+                    // 행을 남겨 두고 다음 확인 때 다시 처리
+                    failed = true;
+                    log.error("포인트 자동 적립 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+                }
+            }
+        } while (!failed && pending.size() == BATCH_USERS);
+
+        if (accrued > 0) {
+            log.info("포인트 자동 적립 완료 - 사용자 수: {}", accrued);
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.TodoListProject.Service;
 
+import com.example.TodoListProject.Dto.CursorPageDto;
+import com.example.TodoListProject.Dto.PointHistoryDto;
 import com.example.TodoListProject.Dto.PointResponseDto;
+import com.example.TodoListProject.Dto.TimeCursor;
 import com.example.TodoListProject.Entity.Point;
 import com.example.TodoListProject.Entity.Todo;
 import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Enum.LeaderboardType;
 import com.example.TodoListProject.Repository.PointRepository;
 import com.example.TodoListProject.Repository.TodoRepository;
 import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.config.OptimisticRetry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
@@ -22,9 +37,14 @@ public class PointService {
     
     private final PointRepository pointRepository;
     private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final UserProfileCache userProfileCache;
+    private final LeaderboardService leaderboardService;
     
     // 1분(60초)당 1포인트
     private static final long SECONDS_PER_POINT = 60L;
+
+    private static final int MAX_PAGE_SIZE = 100;
     
     /**
      * 사용자의 현재 포인트 정보 조회
@@ -39,11 +59,8 @@ public class PointService {
             
             log.info("사용자 조회 완료 - 사용자: {}, 현재 포인트: {}", user.getUserName(), user.getCurrentPoints());
             
-            // 이미 포인트로 변환된 집중시간 계산 (히스토리 추적용)
-            List<Point> userPoints = pointRepository.findByUserOrderByCreatedAtDesc(user);
-            long totalFocusTimeUsed = userPoints.stream()
-                    .mapToLong(Point::getFocusTimeUsed)
-                    .sum();
+            // 이미 포인트로 변환된 집중시간 (User에 유지되는 누적값 사용)
+            long totalFocusTimeUsed = user.getConvertedFocusTime();
             
             return PointResponseDto.builder()
                     .totalPoints(user.getCurrentPoints())
@@ -58,12 +75,28 @@ public class PointService {
     }
     
     /**
-     * 포인트 계산 및 업데이트
+     * 포인트 계산 요청 - 적립은 집중시간 변경 이벤트로 PointAccrualWorker 가 처리하므로 현재 상태만 조회
+     */
+    @Transactional(readOnly = true)
+    public PointResponseDto calculateAndUpdatePoints(Long userId) {
+        PointResponseDto current = getUserPoints(userId);
+        return PointResponseDto.builder()
+                .totalPoints(current.getTotalPoints())
+                .totalFocusTimeUsed(current.getTotalFocusTimeUsed())
+                .newPointsEarned(0L)
+                .message("포인트는 집중시간이 기록되면 자동으로 적립됩니다.")
+                .build();
+    }
+
+    /**
+     * 포인트 적립 (PointAccrualWorker 에서 사용자별로 호출)
      * 1. 사용자의 현재 총 집중시간 계산
      * 2. 이미 포인트로 변환된 시간 제외
      * 3. 새로운 집중시간에 대해 포인트 계산 및 기록
+     * 변환된 집중시간 누적값 기준으로 계산하므로 같은 사용자를 여러 번 처리해도 중복 적립되지 않음
      */
-    public PointResponseDto calculateAndUpdatePoints(Long userId) {
+    @OptimisticRetry
+    public PointResponseDto accruePoints(Long userId) {
         try {
             log.info("포인트 계산 시작 - 사용자 ID: {}", userId);
             
@@ -75,11 +108,8 @@ public class PointService {
             // 1. 사용자의 누적 총 집중시간 사용 (User 엔티티의 totalFocusTime)
             long currentTotalFocusTime = user.getTotalFocusTime() != null ? user.getTotalFocusTime() : 0L;
             
-            // 2. 직접 계산 방식으로 이미 포인트로 변환된 집중시간 조회
-            List<Point> userPoints = pointRepository.findByUserOrderByCreatedAtDesc(user);
-            long alreadyUsedFocusTime = userPoints.stream()
-                    .mapToLong(Point::getFocusTimeUsed)
-                    .sum();
+            // 2. 이미 포인트로 변환된 집중시간 조회 (User에 유지되는 누적값 사용)
+            long alreadyUsedFocusTime = user.getConvertedFocusTime();
             
             // 3. 새로운 집중시간 계산
             long newFocusTime = currentTotalFocusTime - alreadyUsedFocusTime;
@@ -95,9 +125,14 @@ public class PointService {
             
             // 6. 새로운 포인트가 있으면 User 엔티티와 히스토리 업데이트
             if (newPoints > 0) {
-                // User 포인트 업데이트
+                // User 포인트 및 변환된 집중시간 누적값 업데이트 (Point 기록과 같은 트랜잭션)
                 user.setCurrentPoints(user.getCurrentPoints() + newPoints);
-                userRepository.save(user);
+                user.setConvertedFocusTime(alreadyUsedFocusTime + actualUsedFocusTime);
+                // 바로 반영해서 올라간 버전을 리더보드 갱신에 함께 넘김
+                userRepository.saveAndFlush(user);
+                userProfileCache.invalidate(user.getId());
+                leaderboardService.recordScore(LeaderboardType.POINTS, user.getId(), user.getUserName(),
+                        user.getCurrentPoints(), user.getVersion());
                 
                 // 히스토리 기록 생성
                 Point pointRecord = Point.builder()
@@ -137,13 +172,86 @@ public class PointService {
 
     
     /**
-     * 사용자의 포인트 획득 이력 조회
+     * 사용자의 포인트 획득 이력 조회 (기존 /history 응답 형식 유지, 엔티티 대신 필요한 컬럼만 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<PointHistoryDto> getUserPointHistory(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        return pointRepository.findHistory(userId, Limit.unlimited());
+    }
+
+    /**
+     * 사용자의 포인트 획득 이력 커서 페이지 조회 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<PointHistoryDto> getUserPointHistoryPage(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<PointHistoryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = pointRepository.findHistory(userId, limit);
+        } else {
+            TimeCursor after = TimeCursor.decode(cursor);
+            rows = pointRepository.findHistoryBefore(userId, after.at(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PointHistoryDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PointHistoryDto last = page.get(page.size() - 1);
+            nextCursor = new TimeCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 사용자 존재 여부 (스트리밍 응답을 시작하기 전에 확인)
+     */
+    @Transactional(readOnly = true)
+    public boolean existsUser(Long userId) {
+        return userRepository.existsById(userId);
+    }
+
+    /**
+     * 사용자의 포인트 획득 이력 전체를 NDJSON(한 줄에 JSON 하나)으로 출력
+     * DB 커서에서 한 행씩 읽어 바로 쓰므로 이력 크기와 관계없이 메모리 사용량 일정
      */
     @Transactional(readOnly = true)
-    public List<Point> getUserPointHistory(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        return pointRepository.findByUserOrderByCreatedAtDesc(user);
+    public void exportUserPointHistory(Long userId, OutputStream out) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+
+        ObjectWriter writer = objectMapper.writerFor(PointHistoryDto.class);
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        try (Stream<PointHistoryDto> rows = pointRepository.streamHistory(userId)) {
+            Iterator<PointHistoryDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                buffered.write(writer.writeValueAsBytes(iterator.next()));
+                buffered.write('\n');
+            }
+        }
+        buffered.flush();
+    }
+
+    /**
+     * 변환된 집중시간 누적값을 points 테이블과 대조하여 보정 (UPDATE 한 번, 사용자를 메모리에 올리지 않음)
+     * 정합성 검증용 - 기존 사용자 백필은 V2 마이그레이션이 처리 (보정된 사용자 수 반환)
+     */
+    public int reconcileConvertedFocusTime() {
+        int corrected = userRepository.reconcileConvertedFocusTime();
+        if (corrected > 0) {
+            log.warn("변환된 집중시간 불일치 보정 - 보정된 사용자 수: {}", corrected);
+        }
+        log.info("변환된 집중시간 정합성 검증 완료 - 보정된 사용자 수: {}", corrected);
+        return corrected;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Cache.BoundedCache;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserPurchaseRepository;
+import com.example.TodoListProject.config.PrimaryReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 구매 아이템 비트셋 캐시
+ * 카탈로그 조밀 인덱스 위치에 비트를 세워 두어 목록 렌더링 시 O(1)로 구매 여부 확인
+ * 구매 반영은 캐시 잠금 안에서 비트를 추가하고, DB 에서 읽은 비트셋은 읽는 동안 그 사용자의 구매가 커밋되지 않았을 때만 저장
+ */
+@Component
+@Slf4j
+public class PurchaseOwnershipCache {
+
+    private final ShopCatalog shopCatalog;
+    private final UserPurchaseRepository userPurchaseRepository;
+    private final PrimaryReader primaryReader;
+    private final BoundedCache<Long, PurchasedItems> cache;
+
+    // 로드 중인 사용자별 (로드 수, 로드 중 반영된 구매 수) - 로드 전후로 구매 수가 다르면 읽은 비트셋이 그 구매를 놓쳤을 수 있음
+    // 로드 중인 사용자만 담고 마지막 로드가 끝나면 제거
+    private final ConcurrentHashMap<Long, Loading> loading = new ConcurrentHashMap<>();
+
+    private record Loading(int loaders, long appliedPurchases) {
+    }
+
+    public PurchaseOwnershipCache(ShopCatalog shopCatalog,
+                                  UserPurchaseRepository userPurchaseRepository,
+                                  PrimaryReader primaryReader,
+                                  @Value("${shop.ownership-cache.max-size:10000}") int maxSize,
+                                  @Value("${shop.ownership-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.shopCatalog = shopCatalog;
+        this.userPurchaseRepository = userPurchaseRepository;
+        this.primaryReader = primaryReader;
+        this.cache = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 구매한 아이템 집합 (불변, 구매 시에는 복사본으로 교체)
+     */
+    public static final class PurchasedItems {
+        private final int indexedItemCount;
+        private final BitSet bits;
+
+        private PurchasedItems(int indexedItemCount, BitSet bits) {
+            this.indexedItemCount = indexedItemCount;
+            this.bits = bits;
+        }
+
+        public boolean contains(ShopCatalog.CatalogItem item) {
+            return bits.get(item.index());
+        }
+
+        private PurchasedItems with(int index) {
+            BitSet copy = (BitSet) bits.clone();
+            copy.set(index);
+            return new PurchasedItems(indexedItemCount, copy);
+        }
+    }
+
+    public PurchasedItems get(User user) {
+        PurchasedItems cached = cache.get(user.getId());
+        // 그 사이 카탈로그에 새 아이템이 인덱싱되었다면 다시 만듦
+        if (cached != null && cached.indexedItemCount == shopCatalog.indexedItemCount()) {
+            return cached;
+        }
+
+        Long userId = user.getId();
+        long appliedBeforeLoad = loading.compute(userId, (id, current) -> current == null
+                ? new Loading(1, 0L)
+                : new Loading(current.loaders() + 1, current.appliedPurchases())).appliedPurchases();
+        try {
+            int indexedItemCount = shopCatalog.indexedItemCount();
+            BitSet bits = new BitSet(indexedItemCount);
+            // 복제 지연으로 방금 구매한 아이템이 빠진 비트셋이 캐시되지 않도록 primary 에서 읽음
+            List<Long> purchasedItemIds = primaryReader.read(() -> userPurchaseRepository.findPurchasedItemIdsByUser(user));
+            for (Long itemId : purchasedItemIds) {
+                int index = shopCatalog.indexOf(itemId);
+                if (index >= 0) {
+                    bits.set(index);
+                }
+            }
+
+            PurchasedItems loaded = new PurchasedItems(indexedItemCount, bits);
+            // 로드 도중 이 사용자의 구매가 반영되었다면 캐시에 넣지 않음 (다음 조회에서 다시 로드)
+            cache.putIf(userId, loaded, () -> loading.get(userId).appliedPurchases() == appliedBeforeLoad);
+            return loaded;
+        } finally {
+            loading.computeIfPresent(userId, (id, current) -> current.loaders() > 1
+                    ? new Loading(current.loaders() - 1, current.appliedPurchases())
+                    : null);
+        }
+    }
+
+    /**
+     * 구매 성공 시 호출 - 트랜잭션 커밋 이후에만 캐시에 반영
+     */
+    public void recordPurchase(Long userId, Long shopItemId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, shopItemId);
+                }
+            });
+        } else {
+            apply(userId, shopItemId);
+        }
+    }
+
+    private void apply(Long userId, Long shopItemId) {
+        // 이 사용자에 대해 진행 중인 로드가 구매 이전 상태를 저장하지 못하도록 먼저 증가
+        loading.computeIfPresent(userId, (id, current) ->
+                new Loading(current.loaders(), current.appliedPurchases() + 1));
+        int index = shopCatalog.indexOf(shopItemId);
+        if (index < 0) {
+            cache.invalidate(userId);
+            return;
+        }
+        cache.computeIfPresent(userId, cached -> cached.with(index));
+    }
+
+    public BoundedCache<Long, PurchasedItems> getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.TodoListProject.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 점수 순위 인덱스 (서브트리 크기를 가진 treap, 순서 통계 트리)
+ * 점수 높은 순, 같은 점수는 사용자 ID 오름차순
+ * 갱신/순위 조회/k번째 조회 O(log n), 구간 조회 O(log n + k)
+ * 스레드 안전하지 않음 - 호출하는 쪽에서 잠금 필요
+ */
+public class RankedIndex {
+
+    private final Map<Long, Long> scores = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    /**
+     * 순위 항목 (rank 는 1부터)
+     */
+    public record Ranked(int rank, long userId, long score) {
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public Long scoreOf(long userId) {
+        return scores.get(userId);
+    }
+
+    // 점수 설정 (없으면 추가, 같은 점수면 변경 없음)
+    public void put(long userId, long score) {
+        Long previous = scores.put(userId, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            root = remove(root, previous, userId);
+        }
+        root = insert(root, new Node(userId, score, random.nextInt()));
+    }
+
+    public void remove(long userId) {
+        Long previous = scores.remove(userId);
+        if (previous != null) {
+            root = remove(root, previous, userId);
+        }
+    }
+
+    // 사용자 순위 (1부터), 없으면 -1
+    public int rankOf(long userId) {
+        Long score = scores.get(userId);
+        if (score == null) {
+            return -1;
+        }
+
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int compared = compare(score, userId, node.score, node.userId);
+            if (compared < 0) {
+                node = node.left;
+            } else if (compared > 0) {
+                before += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return before + size(node.left) + 1;
+            }
+        }
+        throw new IllegalStateException("순위 인덱스 불일치 - 사용자 ID: " + userId);
+    }
+
+    // 순위 fromRank 부터 최대 count 개 (fromRank 는 1부터)
+    public List<Ranked> range(int fromRank, int count) {
+        int from = Math.max(fromRank, 1) - 1;
+        int to = (int) Math.min((long) from + Math.max(count, 0), size());
+        List<Ranked> result = new ArrayList<>(Math.max(to - from, 0));
+        if (from < to) {
+            collect(root, from, to, 0, result);
+        }
+        return result;
+    }
+
+    public List<Ranked> top(int count) {
+        return range(1, count);
+    }
+
+    // 중위 순회하며 [from, to) 위치만 담음, offset 은 이 서브트리 가장 왼쪽 항목의 위치
+    private void collect(Node node, int from, int to, int offset, List<Ranked> out) {
+        if (node == null) {
+            return;
+        }
+        int position = offset + size(node.left);
+        if (from < position) {
+            collect(node.left, from, to, offset, out);
+        }
+        if (position >= from && position < to) {
+            out.add(new Ranked(position + 1, node.userId, node.score));
+        }
+        if (to > position + 1) {
+            collect(node.right, from, to, position + 1, out);
+        }
+    }
+
+    private Node insert(Node node, Node item) {
+        if (node == null) {
+            return item;
+        }
+        if (item.priority > node.priority) {
+            Node[] parts = split(node, item.score, item.userId);
+            item.left = parts[0];
+            item.right = parts[1];
+            update(item);
+            return item;
+        }
+        if (compare(item.score, item.userId, node.score, node.userId) < 0) {
+            node.left = insert(node.left, item);
+        } else {
+            node.right = insert(node.right, item);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, long score, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int compared = compare(score, userId, node.score, node.userId);
+        if (compared == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compared < 0) {
+            node.left = remove(node.left, score, userId);
+        } else {
+            node.right = remove(node.right, score, userId);
+        }
+        update(node);
+        return node;
+    }
+
+    // (키보다 앞, 키 이후) 로 분리
+    private Node[] split(Node node, long score, long userId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node.score, node.userId, score, userId) < 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    // left 의 모든 항목이 right 보다 앞이어야 함
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    // 점수 높은 순, 같은 점수면 사용자 ID 오름차순
+    private static int compare(long scoreA, long userIdA, long scoreB, long userIdB) {
+        int byScore = Long.compare(scoreB, scoreA);
+        return byScore != 0 ? byScore : Long.compare(userIdA, userIdB);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static final class Node {
+        private final long userId;
+        private final long score;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long userId, long score, int priority) {
+            this.userId = userId;
+            this.score = score;
+            this.priority = priority;
+        }
+    }
+}
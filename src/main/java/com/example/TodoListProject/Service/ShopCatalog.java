@@ -0,0 +1,170 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Entity.ShopItem;
+import com.example.TodoListProject.Repository.ShopItemRepository;
+import com.example.TodoListProject.config.PrimaryReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 활성화된 상점 아이템 메모리 캐시
+ * 불변 스냅샷을 volatile 참조로 공유하므로 조회 시 잠금 없음, 카탈로그 변경 시에만 다시 로드
+ * 무효화는 세대 번호만 올리고, 스냅샷은 로드를 시작한 세대를 기억해서
+ * 로드 도중 무효화되었으면 (커밋 이전 데이터일 수 있으므로) 다시 로드
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShopCatalog {
+
+    private static final Comparator<CatalogItem> BY_CATEGORY =
+            Comparator.comparing(CatalogItem::category).thenComparing(CatalogItem::id);
+    private static final Comparator<CatalogItem> BY_PRICE =
+            Comparator.comparing(CatalogItem::price).thenComparing(CatalogItem::id);
+
+    private final ShopItemRepository shopItemRepository;
+    private final PrimaryReader primaryReader;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    // 아이템 ID -> 0부터 시작하는 조밀한 인덱스 (재로드해도 바뀌지 않음, 구매 비트셋 위치로 사용)
+    private final Map<Long, Integer> denseIndex = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 상점 아이템 불변 사본 (JPA 엔티티를 요청 스레드 간에 공유하지 않기 위함)
+     */
+    public record CatalogItem(Long id, int index, String itemName, String description, Long price, String category) {
+    }
+
+    // 카테고리 순 전체 아이템
+    public List<CatalogItem> getActiveItems() {
+        return snapshot().byCategoryOrder;
+    }
+
+    // 카테고리별 아이템 (가격 순)
+    public List<CatalogItem> getActiveItemsByCategory(String category) {
+        return snapshot().byCategory.getOrDefault(category, List.of());
+    }
+
+    // 가격이 points 이하인 아이템 (가격 순, 이진 탐색)
+    public List<CatalogItem> getItemsPricedAtMost(long points) {
+        Snapshot current = snapshot();
+        long[] prices = current.prices;
+
+        int low = 0;
+        int high = prices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] <= points) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return current.byPriceOrder.subList(0, low);
+    }
+
+    public Optional<CatalogItem> findById(Long id) {
+        return Optional.ofNullable(snapshot().byId.get(id));
+    }
+
+    // 카탈로그에 한 번이라도 올라온 아이템의 인덱스, 없으면 -1
+    public int indexOf(Long itemId) {
+        snapshot();
+        Integer index = denseIndex.get(itemId);
+        return index != null ? index : -1;
+    }
+
+    // 지금까지 인덱스가 부여된 아이템 수 (늘어나면 기존 비트셋은 다시 만들어야 함)
+    public int indexedItemCount() {
+        snapshot();
+        return denseIndex.size();
+    }
+
+    /**
+     * 카탈로그 변경 후 호출 - 트랜잭션 안이면 커밋 이후에 무효화
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        } else {
+            generation.incrementAndGet();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation == generation.get()) {
+            return current;
+        }
+
+        reloadLock.lock();
+        try {
+            while (snapshot == null || snapshot.generation != generation.get()) {
+                // 로드 중에 무효화되면 세대가 달라지므로 다음 반복에서 다시 로드
+                snapshot = load(generation.get());
+            }
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot load(long loadedGeneration) {
+        // 복제본은 방금 커밋된 카탈로그 변경을 아직 못 받았을 수 있으므로 primary 에서 읽음
+        List<ShopItem> shopItems = primaryReader.read(shopItemRepository::findByIsActiveTrueOrderByCategory);
+
+        // 새 아이템에만 다음 인덱스 부여 (reloadLock 안에서만 호출됨)
+        shopItems.stream()
+                .map(ShopItem::getId)
+                .sorted()
+                .filter(id -> !denseIndex.containsKey(id))
+                .forEach(id -> denseIndex.put(id, denseIndex.size()));
+
+        List<CatalogItem> items = shopItems.stream()
+                .map(item -> new CatalogItem(item.getId(), denseIndex.get(item.getId()), item.getItemName(),
+                        item.getDescription(), item.getPrice(), item.getCategory()))
+                .collect(Collectors.toList());
+
+        List<CatalogItem> byCategoryOrder = items.stream().sorted(BY_CATEGORY).toList();
+        List<CatalogItem> byPriceOrder = items.stream().sorted(BY_PRICE).toList();
+        Map<Long, CatalogItem> byId = items.stream()
+                .collect(Collectors.toUnmodifiableMap(CatalogItem::id, Function.identity()));
+        Map<String, List<CatalogItem>> byCategory = byPriceOrder.stream()
+                .collect(Collectors.groupingBy(CatalogItem::category,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+
+        log.info("상점 카탈로그 로드 완료 - 아이템 수: {}", items.size());
+        return new Snapshot(loadedGeneration, byCategoryOrder, byPriceOrder,
+                byPriceOrder.stream().mapToLong(CatalogItem::price).toArray(),
+                byId, Map.copyOf(byCategory));
+    }
+
+    private record Snapshot(long generation,
+                            List<CatalogItem> byCategoryOrder,
+                            List<CatalogItem> byPriceOrder,
+                            long[] prices,
+                            Map<Long, CatalogItem> byId,
+                            Map<String, List<CatalogItem>> byCategory) {
+    }
+}
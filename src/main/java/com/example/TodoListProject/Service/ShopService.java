@@ -2,27 +2,40 @@ package com.example.TodoListProject.Service;
 
 import com.example.TodoListProject.Dto.*;
 import com.example.TodoListProject.Entity.*;
+import com.example.TodoListProject.Enum.LeaderboardType;
 import com.example.TodoListProject.Repository.*;
+import com.example.TodoListProject.config.OptimisticRetry;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class ShopService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ShopItemRepository shopItemRepository;
     private final UserPurchaseRepository userPurchaseRepository;
     private final UserRepository userRepository;
     private final PointService pointService;
+    private final ShopCatalog shopCatalog;
+    private final PurchaseOwnershipCache purchaseOwnershipCache;
+    private final UserProfileCache userProfileCache;
+    private final LeaderboardService leaderboardService;
 
     /**
      * 모든 활성화된 상점 아이템 조회 (사용자별 구매 정보 포함)
@@ -34,22 +47,12 @@ public class ShopService {
         // 사용자의 현재 포인트 조회 (User 엔티티에서 직접)
         Long currentPoints = user.getCurrentPoints();
 
-        // 사용자가 구매한 아이템 ID 목록
-        List<Long> purchasedItemIds = userPurchaseRepository.findPurchasedItemIdsByUser(user);
-
-        // 모든 활성화된 아이템 조회
-        List<ShopItem> shopItems = shopItemRepository.findByIsActiveTrueOrderByCategory();
-
-        return shopItems.stream()
-                .map(item -> ShopItemDto.builder()
-                        .id(item.getId())
-                        .itemName(item.getItemName())
-                        .description(item.getDescription())
-                        .price(item.getPrice())
-                        .category(item.getCategory())
-                        .isPurchased(purchasedItemIds.contains(item.getId()))
-                        .canPurchase(currentPoints >= item.getPrice() && !purchasedItemIds.contains(item.getId()))
-                        .build())
+        // 사용자가 구매한 아이템 집합 (비트셋 캐시)
+        PurchaseOwnershipCache.PurchasedItems purchasedItems = purchaseOwnershipCache.get(user);
+
+        // 모든 활성화된 아이템 조회 (메모리 카탈로그)
+        return shopCatalog.getActiveItems().stream()
+                .map(item -> toShopItemDto(item, currentPoints, purchasedItems.contains(item)))
                 .collect(Collectors.toList());
     }
 
@@ -62,25 +65,18 @@ public class ShopService {
 
         Long currentPoints = user.getCurrentPoints();
 
-        List<Long> purchasedItemIds = userPurchaseRepository.findPurchasedItemIdsByUser(user);
-        List<ShopItem> shopItems = shopItemRepository.findByCategoryAndIsActiveTrueOrderByPrice(category);
-
-        return shopItems.stream()
-                .map(item -> ShopItemDto.builder()
-                        .id(item.getId())
-                        .itemName(item.getItemName())
-                        .description(item.getDescription())
-                        .price(item.getPrice())
-                        .category(item.getCategory())
-                        .isPurchased(purchasedItemIds.contains(item.getId()))
-                        .canPurchase(currentPoints >= item.getPrice() && !purchasedItemIds.contains(item.getId()))
-                        .build())
+        PurchaseOwnershipCache.PurchasedItems purchasedItems = purchaseOwnershipCache.get(user);
+
+        return shopCatalog.getActiveItemsByCategory(category).stream()
+                .map(item -> toShopItemDto(item, currentPoints, purchasedItems.contains(item)))
                 .collect(Collectors.toList());
     }
 
     /**
      * 아이템 구매 처리
+     * 포인트 차감은 조건부 UPDATE 한 번으로, 중복 구매는 (user_id, shop_item_id) 유니크 제약으로 막음
      */
+    @OptimisticRetry
     public PurchaseResponseDto purchaseItem(PurchaseRequestDto request) {
         User user = getUserById(request.getUserId());
         ShopItem shopItem = getShopItemById(request.getShopItemId());
@@ -91,52 +87,58 @@ public class ShopService {
                     null, null, null);
         }
 
-        // 이미 구매한 아이템인지 확인
+        // 이미 구매한 아이템인지 확인 (동시 요청은 아래 유니크 제약에서 최종 차단)
         if (userPurchaseRepository.existsByUserAndShopItem(user, shopItem)) {
             return createPurchaseResponse(false, "이미 구매한 아이템입니다.",
                     null, shopItem.getItemName(), shopItem.getPrice());
         }
 
-        // 사용자의 현재 포인트 확인
-        Long currentPoints = user.getCurrentPoints();
-
-        // 포인트 부족 확인
-        if (currentPoints < shopItem.getPrice()) {
+        // 포인트 차감 (보유 포인트가 가격 이상일 때만 반영됨)
+        if (userRepository.deductPointsIfSufficient(user.getId(), shopItem.getPrice()) == 0) {
+            Long currentPoints = userRepository.findCurrentPointsById(user.getId());
             return createPurchaseResponse(false,
                     String.format("포인트가 부족합니다. 필요: %d, 보유: %d", shopItem.getPrice(), currentPoints),
                     currentPoints, shopItem.getItemName(), shopItem.getPrice());
         }
+        userProfileCache.invalidate(user.getId());
 
         // 구매 기록 저장
         try {
-            // 포인트 차감
-            user.setCurrentPoints(currentPoints - shopItem.getPrice());
-            userRepository.save(user);
-            
             UserPurchase purchase = UserPurchase.builder()
                     .user(user)
                     .shopItem(shopItem)
                     .build();
 
-            userPurchaseRepository.save(purchase);
-
-            // 구매 후 남은 포인트
-            Long remainingPoints = user.getCurrentPoints();
-
-            log.info("아이템 구매 성공 - 사용자: {}, 아이템: {}, 가격: {}, 남은 포인트: {}",
-                    user.getUserId(), shopItem.getItemName(), shopItem.getPrice(), remainingPoints);
-
-            return createPurchaseResponse(true,
-                    String.format("'%s' 아이템을 성공적으로 구매했습니다!", shopItem.getItemName()),
-                    remainingPoints, shopItem.getItemName(), shopItem.getPrice());
+            userPurchaseRepository.saveAndFlush(purchase);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 구매 요청 - 차감한 포인트까지 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("중복 구매 차단 - 사용자: {}, 아이템: {}", user.getUserId(), shopItem.getItemName());
 
+            return createPurchaseResponse(false, "이미 구매한 아이템입니다.",
+                    null, shopItem.getItemName(), shopItem.getPrice());
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error("아이템 구매 실패 - 사용자: {}, 아이템: {}, 에러: {}",
                     user.getUserId(), shopItem.getItemName(), e.getMessage());
 
             return createPurchaseResponse(false, "구매 처리 중 오류가 발생했습니다.",
-                    currentPoints, shopItem.getItemName(), shopItem.getPrice());
+                    null, shopItem.getItemName(), shopItem.getPrice());
         }
+
+        purchaseOwnershipCache.recordPurchase(user.getId(), shopItem.getId());
+
+        // 구매 후 남은 포인트
+        Long remainingPoints = userRepository.findCurrentPointsById(user.getId());
+        leaderboardService.recordScore(LeaderboardType.POINTS, user.getId(), user.getUserName(), remainingPoints,
+                userRepository.findVersionById(user.getId()));
+
+        log.info("아이템 구매 성공 - 사용자: {}, 아이템: {}, 가격: {}, 남은 포인트: {}",
+                user.getUserId(), shopItem.getItemName(), shopItem.getPrice(), remainingPoints);
+
+        return createPurchaseResponse(true,
+                String.format("'%s' 아이템을 성공적으로 구매했습니다!", shopItem.getItemName()),
+                remainingPoints, shopItem.getItemName(), shopItem.getPrice());
     }
 
     /**
@@ -144,12 +146,43 @@ public class ShopService {
      */
     @Transactional(readOnly = true)
     public List<UserPurchaseDto> getUserPurchaseHistory(Long userId) {
-        User user = getUserById(userId);
-        List<UserPurchase> purchases = userPurchaseRepository.findByUserOrderByPurchasedAtDesc(user);
-        
-        return purchases.stream()
-                .map(UserPurchaseDto::fromEntity)
+        UserResponseDto user = UserResponseDto.fromEntity(getUserById(userId));
+
+        return userPurchaseRepository.findHistoryRows(userId, Limit.unlimited()).stream()
+                .map(row -> UserPurchaseDto.fromRow(row, user))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 사용자의 구매 기록 커서 페이지 조회 (purchasedAt 최신순)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserPurchaseDto> getUserPurchaseHistoryPage(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        UserResponseDto user = UserResponseDto.fromEntity(getUserById(userId));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<PurchaseHistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = userPurchaseRepository.findHistoryRows(userId, limit);
+        } else {
+            TimeCursor after = TimeCursor.decode(cursor);
+            rows = userPurchaseRepository.findHistoryRowsBefore(userId, after.at(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PurchaseHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            PurchaseHistoryRow last = page.get(page.size() - 1);
+            nextCursor = new TimeCursor(last.getPurchasedAt(), last.getId()).encode();
+        }
+
+        List<UserPurchaseDto> items = page.stream()
+                .map(row -> UserPurchaseDto.fromRow(row, user))
                 .collect(Collectors.toList());
+        return new CursorPageDto<>(items, nextCursor, hasNext);
     }
 
     /**
@@ -161,20 +194,11 @@ public class ShopService {
 
         Long currentPoints = user.getCurrentPoints();
 
-        List<Long> purchasedItemIds = userPurchaseRepository.findPurchasedItemIdsByUser(user);
-        List<ShopItem> affordableItems = shopItemRepository.findAffordableItems(currentPoints);
-
-        return affordableItems.stream()
-                .filter(item -> !purchasedItemIds.contains(item.getId())) // 이미 구매한 아이템 제외
-                .map(item -> ShopItemDto.builder()
-                        .id(item.getId())
-                        .itemName(item.getItemName())
-                        .description(item.getDescription())
-                        .price(item.getPrice())
-                        .category(item.getCategory())
-                        .isPurchased(false)
-                        .canPurchase(true)
-                        .build())
+        PurchaseOwnershipCache.PurchasedItems purchasedItems = purchaseOwnershipCache.get(user);
+
+        return shopCatalog.getItemsPricedAtMost(currentPoints).stream()
+                .filter(item -> !purchasedItems.contains(item)) // 이미 구매한 아이템 제외
+                .map(item -> toShopItemDto(item, currentPoints, false))
                 .collect(Collectors.toList());
     }
 
@@ -236,6 +260,7 @@ public class ShopService {
                 .build();
 
         shopItemRepository.save(shopItem);
+        shopCatalog.invalidate();
         log.info("상품 생성: {} - {}포인트 ({})", itemName, price, category);
     }
 
@@ -251,6 +276,18 @@ public class ShopService {
                 .orElseThrow(() -> new IllegalArgumentException("상점 아이템을 찾을 수 없습니다. ID: " + shopItemId));
     }
 
+    private ShopItemDto toShopItemDto(ShopCatalog.CatalogItem item, Long currentPoints, boolean purchased) {
+        return ShopItemDto.builder()
+                .id(item.id())
+                .itemName(item.itemName())
+                .description(item.description())
+                .price(item.price())
+                .category(item.category())
+                .isPurchased(purchased)
+                .canPurchase(currentPoints >= item.price() && !purchased)
+                .build();
+    }
+
     private PurchaseResponseDto createPurchaseResponse(Boolean success, String message,
                                                        Long remainingPoints, String itemName, Long purchasePrice) {
         return PurchaseResponseDto.builder()
@@ -1,91 +1,236 @@
 package com.example.TodoListProject.Service;
 
+import com.example.TodoListProject.Dto.CursorPageDto;
+import com.example.TodoListProject.Dto.FocusTimeSampleDto;
+import com.example.TodoListProject.Dto.TodoBoardColumnDto;
+import com.example.TodoListProject.Dto.TodoBoardDto;
 import com.example.TodoListProject.Dto.TodoRequestDto;
 import com.example.TodoListProject.Dto.TodoResponseDto;
+import com.example.TodoListProject.Dto.TodoStatusSummaryDto;
 import com.example.TodoListProject.Entity.Todo;
 import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Enum.LeaderboardType;
 import com.example.TodoListProject.Enum.Status;
 import com.example.TodoListProject.Repository.TodoRepository;
+import com.example.TodoListProject.Repository.TodoSpecifications;
 import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Security.AuthenticatedUser;
+import com.example.TodoListProject.config.OptimisticRetry;
 import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("app.service")
 @RequiredArgsConstructor
 @Transactional
 public class TodoService {
+    private static final int MAX_PAGE_SIZE = 100;
+    // 일괄 생성 한 번에 받는 할 일 수 상한 (JDBC 배치 크기 50 의 4배 - 한 트랜잭션과 영속성 컨텍스트 크기 제한)
+    private static final int MAX_BATCH_SIZE = 200;
+    // 집중시간 일괄 업데이트 한 번에 받는 샘플 수 상한 (소유권 확인 IN 절 크기 제한)
+    private static final int MAX_FOCUS_TIME_SAMPLES = 200;
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final FocusTimeBuffer focusTimeBuffer;
+    private final UserProfileCache userProfileCache;
+    private final LeaderboardService leaderboardService;
+    private final FocusAnalyticsService focusAnalyticsService;
+    private final PointAccrualWorker pointAccrualWorker;
 
-    // 인증된 사용자 조회
-    private User getCurrentUser() {
-        String userId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByUserId(userId)
+    // 인증된 사용자의 기본키 (로그인 시 principal 에 담아 둔 값 사용)
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.getId();
+        }
+        // 기본키가 없는 인증 정보 (이전 세션 등)는 로그인 아이디로 조회
+        return userRepository.findIdByUserId(authentication.getName())
                 .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
     }
 
+    // 인증된 사용자 참조 (프록시라 조회 쿼리 없음, 연관관계/조건 값으로만 사용)
+    private User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+
+    // 소유자 조건을 포함해 할 일 조회
+    private Todo getOwnedTodo(Long id, Long userId) {
+        return todoRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다."));
+    }
+
     // 할 일 생성
     public TodoResponseDto createTodo(TodoRequestDto dto) {
-        User user = getCurrentUser();
+        User user = getCurrentUserReference();
+        userRepository.incrementBoardVersion(user.getId());
+        return TodoResponseDto.fromEntity(todoRepository.save(newTodo(dto, user)));
+    }
+
+    // 할 일 일괄 생성 (시퀀스 미리 할당 + JDBC 배치 insert)
+    public List<TodoResponseDto> createTodos(List<TodoRequestDto> dtos) {
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("할 일은 한 번에 최대 " + MAX_BATCH_SIZE + "개까지 생성할 수 있습니다.");
+        }
+        User user = getCurrentUserReference();
+        List<Todo> todos = dtos.stream()
+                .map(dto -> newTodo(dto, user))
+                .collect(Collectors.toList());
+        userRepository.incrementBoardVersion(user.getId());
+        return todoRepository.saveAll(todos).stream()
+                .map(TodoResponseDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    private Todo newTodo(TodoRequestDto dto, User user) {
         Todo todo = new Todo();
         todo.setTitle(dto.getTitle());
         todo.setDescription(dto.getDescription());
         todo.setStatus(dto.getStatus() != null ? dto.getStatus() : Status.TODO); // 기본값은 TODO
         todo.setUser(user);
-        return TodoResponseDto.fromEntity(todoRepository.save(todo));
+        return todo;
     }
 
     // 내 할 일 전체 조회
 
     public List<TodoResponseDto> getAllTodos() {
-        User user = getCurrentUser();
+        User user = getCurrentUserReference();
         return todoRepository.findByUser(user).stream()
                 .map(TodoResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
 
+    // 내 할 일 커서 페이지 조회 (id 순, 상태/제목 앞부분/집중시간 범위 필터)
+    public CursorPageDto<TodoResponseDto> getTodoPage(Status status, String titlePrefix,
+                                                      Long minFocusTime, Long maxFocusTime,
+                                                      String cursor, int size) {
+        User user = getCurrentUserReference();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Long afterId = parseCursor(cursor);
+
+        Specification<Todo> spec = Specification.where(TodoSpecifications.ownedBy(user))
+                .and(TodoSpecifications.hasStatus(status))
+                .and(TodoSpecifications.titleStartsWith(titlePrefix))
+                .and(TodoSpecifications.focusTimeBetween(minFocusTime, maxFocusTime))
+                .and(TodoSpecifications.idGreaterThan(afterId));
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리 없음)
+        List<Todo> rows = todoRepository.findBy(spec, query -> query
+                .sortBy(Sort.by("id"))
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Todo> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+
+        List<TodoResponseDto> items = page.stream()
+                .map(TodoResponseDto::fromEntity)
+                .collect(Collectors.toList());
+        return new CursorPageDto<>(items, nextCursor, hasNext);
+    }
+
+    // 상태별 할 일 수 / 집중시간 합계 (할 일이 없는 상태도 0으로 포함)
+    public List<TodoStatusSummaryDto> getStatusSummary() {
+        User user = getCurrentUserReference();
+        Map<Status, TodoStatusSummaryDto> summary = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            summary.put(status, new TodoStatusSummaryDto(status, 0L, 0L));
+        }
+        for (TodoStatusSummaryDto row : todoRepository.summarizeByStatus(user)) {
+            if (row.getStatus() != null) {
+                summary.put(row.getStatus(), row);
+            }
+        }
+        return List.copyOf(summary.values());
+    }
+
+    // 칸반보드: 모든 컬럼을 한 번의 조회로 구성
+    public TodoBoardDto getBoard() {
+        Long userId = getCurrentUserId();
+        Long boardVersion = getBoardVersion(userId);
+
+        Map<Status, List<TodoResponseDto>> grouped = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            grouped.put(status, new ArrayList<>());
+        }
+        for (Todo todo : todoRepository.findByUserOrderByIdAsc(userRepository.getReferenceById(userId))) {
+            Status status = todo.getStatus() != null ? todo.getStatus() : Status.TODO;
+            grouped.get(status).add(TodoResponseDto.fromEntity(todo));
+        }
+
+        Map<Status, TodoBoardColumnDto> columns = new EnumMap<>(Status.class);
+        grouped.forEach((status, todos) -> columns.put(status, new TodoBoardColumnDto(
+                status,
+                todos.size(),
+                todos.stream().mapToLong(TodoResponseDto::getTotalFocusTime).sum(),
+                todos)));
+
+        return new TodoBoardDto(boardVersion, columns, boardETag(userId, boardVersion));
+    }
+
+    // 칸반보드 ETag (보드 버전 기반, 할 일 목록을 읽지 않음)
+    public String getBoardETag() {
+        Long userId = getCurrentUserId();
+        return boardETag(userId, getBoardVersion(userId));
+    }
+
+    private Long getBoardVersion(Long userId) {
+        return userRepository.findBoardVersionById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다"));
+    }
+
+    private String boardETag(Long userId, Long boardVersion) {
+        return "\"board-" + userId + "-" + boardVersion + "\"";
+    }
+
     // 특정 할 일 조회
 
     public TodoResponseDto getTodoById(Long id) {
-        User user = getCurrentUser();
-        Todo todo = todoRepository.findById(id)
-                .filter(t -> t.getUser().getId().equals(user.getId()))
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다."));
+        Long userId = getCurrentUserId();
+        Todo todo = getOwnedTodo(id, userId);
         return TodoResponseDto.fromEntity(todo);
     }
 
     // 할 일 수정
     public TodoResponseDto updateTodo(Long id, TodoRequestDto dto) {
-        User user = getCurrentUser();
-        Todo todo = todoRepository.findById(id)
-                .filter(t -> t.getUser().getId().equals(user.getId()))
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다."));
+        Long userId = getCurrentUserId();
+        Todo todo = getOwnedTodo(id, userId);
         todo.setTitle(dto.getTitle());
         todo.setDescription(dto.getDescription());
         todo.setStatus(dto.getStatus());
+        userRepository.incrementBoardVersion(userId);
         return TodoResponseDto.fromEntity(todoRepository.save(todo));
     }
 
     // 할 일 삭제
     public void deleteTodo(Long id) {
-        User user = getCurrentUser();
-        Todo todo = todoRepository.findById(id)
-                .filter(t -> t.getUser().getId().equals(user.getId()))
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다."));
+        Long userId = getCurrentUserId();
+        Todo todo = getOwnedTodo(id, userId);
         
         // TODO 삭제 시 사용자의 총 집중시간은 유지됨 (누적 집중시간이므로 감소하지 않음)
         // 포인트 계산은 Points 테이블의 이력을 기반으로 별도 처리
         todoRepository.delete(todo);
+        userRepository.incrementBoardVersion(userId);
     }
 
     // 칸반보드: 상태별 할 일 조회
     public List<TodoResponseDto> getTodosByStatus(Status status) {
-        User user = getCurrentUser();
+        User user = getCurrentUserReference();
         return todoRepository.findByUserAndStatus(user, status).stream()
                 .map(TodoResponseDto::fromEntity)
                 .collect(Collectors.toList());
@@ -93,21 +238,22 @@ public class TodoService {
 
     // 칸반보드: 할 일 상태 변경
     public TodoResponseDto updateTodoStatus(Long id, Status newStatus) {
-        User user = getCurrentUser();
-        Todo todo = todoRepository.findById(id)
-                .filter(t -> t.getUser().getId().equals(user.getId()))
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다."));
+        Long userId = getCurrentUserId();
+        Todo todo = getOwnedTodo(id, userId);
         todo.setStatus(newStatus);
+        userRepository.incrementBoardVersion(userId);
         return TodoResponseDto.fromEntity(todoRepository.save(todo));
     }
 
     // 할 일의 집중 시간 업데이트
+    @OptimisticRetry
     public TodoResponseDto updateTodoFocusTime(Long id, Long focusTimeInSeconds) {
-        User user = getCurrentUser();
-        Todo todo = todoRepository.findById(id)
-                .filter(t -> t.getUser().getId().equals(user.getId()))
-                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다."));
+        Long userId = getCurrentUserId();
+        Todo todo = getOwnedTodo(id, userId);
         
+        // 버퍼에 남아 있는 이전 샘플이 이 값을 덮어쓰지 않도록 제거
+        focusTimeBuffer.discard(id);
+
         // 이전 집중시간과 새로운 집중시간의 차이 계산
         Long previousFocusTime = todo.getTotalFocusTime() != null ? todo.getTotalFocusTime() : 0L;
         Long focusTimeDifference = focusTimeInSeconds - previousFocusTime;
@@ -116,12 +262,56 @@ public class TodoService {
         todo.setTotalFocusTime(focusTimeInSeconds);
         Todo savedTodo = todoRepository.save(todo);
         
-        // User의 총 집중시간 업데이트 (차이만큼 더하기)
+        // User의 총 집중시간 업데이트 (차이만큼 더하기, 사용자 엔티티를 읽지 않고 바로 증가)
         if (focusTimeDifference != 0) {
-            user.setTotalFocusTime((user.getTotalFocusTime() != null ? user.getTotalFocusTime() : 0L) + focusTimeDifference);
-            userRepository.save(user);
+            userRepository.addTotalFocusTime(userId, focusTimeDifference);
+            focusAnalyticsService.recordSession(userId, id, focusTimeDifference);
+            pointAccrualWorker.enqueue(userId);
+            userProfileCache.invalidate(userId);
+            leaderboardService.recordScore(LeaderboardType.FOCUS_TIME, userId, null,
+                    userRepository.findTotalFocusTimeById(userId), userRepository.findVersionById(userId));
         }
         
         return TodoResponseDto.fromEntity(savedTodo);
     }
+
+    // 집중시간 일괄 업데이트: 소유권만 확인하고 버퍼에 넣은 뒤 주기적으로 한 번에 반영
+    public int submitFocusTimeSamples(List<FocusTimeSampleDto> samples) {
+        if (samples.size() > MAX_FOCUS_TIME_SAMPLES) {
+            throw new IllegalArgumentException("집중시간 샘플은 한 번에 최대 " + MAX_FOCUS_TIME_SAMPLES + "개까지 보낼 수 있습니다.");
+        }
+        User user = getCurrentUserReference();
+
+        // 같은 할 일의 샘플은 마지막 값만 사용
+        Map<Long, Long> latest = new LinkedHashMap<>();
+        for (FocusTimeSampleDto sample : samples) {
+            if (sample.getTodoId() == null || sample.getFocusTime() == null || sample.getFocusTime() < 0) {
+                throw new IllegalArgumentException("잘못된 집중시간 샘플입니다.");
+            }
+            latest.put(sample.getTodoId(), sample.getFocusTime());
+        }
+        if (latest.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ownedIds = todoRepository.findIdsByUserAndIdIn(user, latest.keySet());
+        if (ownedIds.size() != latest.size()) {
+            latest.keySet().removeAll(new HashSet<>(ownedIds));
+            throw new IllegalArgumentException("해당 ID의 할 일을 찾을 수 없거나 접근 권한이 없습니다: " + latest.keySet());
+        }
+
+        latest.forEach(focusTimeBuffer::offer);
+        return latest.size();
+    }
+
+    private Long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Cache.BoundedCache;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.config.PrimaryReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 인증/프로필 정보 캐시 (loadUserByUsername, /users/me, /api/auth/me)
+ * 포인트·집중시간·비밀번호 등 사용자 행을 바꾸는 쪽에서 커밋 이후 무효화해야 함
+ * 캐시 미스는 primary 에서 읽음 (무효화 직후 복제본의 이전 값이 다시 캐시되지 않도록)
+ * 읽는 도중 같은 사용자가 무효화되면 읽은 값은 캐시하지 않음 (커밋 전에 읽은 값이 무효화 뒤에 저장되는 것 방지)
+ */
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final PrimaryReader primaryReader;
+
+    // 사용자 PK -> 프로필
+    private final BoundedCache<Long, UserProfile> profiles;
+    // 로그인 아이디 -> 사용자 PK (로그인 아이디는 바뀌지 않으므로 무효화 불필요)
+    private final BoundedCache<String, Long> idsByUserId;
+
+    // 로드 중인 사용자별 (로드 수, 로드 중 무효화 횟수) - 로드 전후로 횟수가 다르면 읽은 값이 이미 오래됐을 수 있음
+    // 로드 중인 사용자만 담고 마지막 로드가 끝나면 제거
+    private final ConcurrentHashMap<Long, Loading> loading = new ConcurrentHashMap<>();
+
+    private record Loading(int loaders, long invalidations) {
+    }
+
+    public UserProfileCache(UserRepository userRepository,
+                            PrimaryReader primaryReader,
+                            @Value("${user.profile-cache.max-size:10000}") int maxSize,
+                            @Value("${user.profile-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.primaryReader = primaryReader;
+        this.profiles = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+        this.idsByUserId = new BoundedCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 사용자 행의 불변 사본 (JPA 엔티티를 요청 스레드 간에 공유하지 않기 위함)
+     */
+    public record UserProfile(Long id, String userId, String userPw, String userName,
+                              Long totalFocusTime, Long currentPoints) {
+        static UserProfile of(User user) {
+            return new UserProfile(user.getId(), user.getUserId(), user.getUserPw(), user.getUserName(),
+                    user.getTotalFocusTime(), user.getCurrentPoints());
+        }
+    }
+
+    public Optional<UserProfile> findById(Long id) {
+        UserProfile cached = profiles.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long invalidationsBeforeLoad = loading.compute(id, (key, current) -> current == null
+                ? new Loading(1, 0L)
+                : new Loading(current.loaders() + 1, current.invalidations())).invalidations();
+        try {
+            Optional<UserProfile> loaded = primaryReader.read(() -> userRepository.findById(id).map(UserProfile::of));
+            loaded.ifPresent(profile -> store(profile, invalidationsBeforeLoad));
+            return loaded;
+        } finally {
+            loading.computeIfPresent(id, (key, current) -> current.loaders() > 1
+                    ? new Loading(current.loaders() - 1, current.invalidations())
+                    : null);
+        }
+    }
+
+    // 사용자 PK 를 먼저 찾아서 PK 기준으로 로드 (무효화 확인이 PK 단위이므로)
+    public Optional<UserProfile> findByUserId(String userId) {
+        Long id = idsByUserId.get(userId);
+        if (id == null) {
+            Optional<Long> found = primaryReader.read(() -> userRepository.findIdByUserId(userId));
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            id = found.get();
+            idsByUserId.put(userId, id);
+        }
+        return findById(id);
+    }
+
+    /**
+     * 사용자 행 변경 후 호출 - 트랜잭션 안이면 커밋 이후에 무효화
+     */
+    public void invalidate(Long id) {
+        invalidate(List.of(id));
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> copy = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    copy.forEach(UserProfileCache.this::evict);
+                }
+            });
+        } else {
+            ids.forEach(this::evict);
+        }
+    }
+
+    public BoundedCache<Long, UserProfile> getProfiles() {
+        return profiles;
+    }
+
+    public BoundedCache<String, Long> getIdsByUserId() {
+        return idsByUserId;
+    }
+
+    private void evict(Long id) {
+        // 진행 중인 로드가 무효화 이전 값을 저장하지 못하도록 먼저 증가
+        loading.computeIfPresent(id, (key, current) ->
+                new Loading(current.loaders(), current.invalidations() + 1));
+        profiles.invalidate(id);
+    }
+
+    private void store(UserProfile profile, long invalidationsBeforeLoad) {
+        profiles.putIf(profile.id(), profile,
+                () -> loading.get(profile.id()).invalidations() == invalidationsBeforeLoad);
+        idsByUserId.put(profile.userId(), profile.id());
+    }
+}
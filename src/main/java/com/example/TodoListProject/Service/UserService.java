@@ -1,25 +1,42 @@
 package com.example.TodoListProject.Service;
 
+import com.example.TodoListProject.Dto.CacheStatsDto;
+import com.example.TodoListProject.Dto.CursorPageDto;
 import com.example.TodoListProject.Dto.LoginRequestDto;
 import com.example.TodoListProject.Dto.UserRequestDto;
 import com.example.TodoListProject.Dto.UserResponseDto;
 import com.example.TodoListProject.Entity.User;
 import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Security.AuthenticatedUser;
+import com.example.TodoListProject.Security.SignedTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +46,13 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final ObjectProvider<SignedTokenService> signedTokenService;
+    private final UserProfileCache userProfileCache;
+    private final LeaderboardService leaderboardService;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_LIST_SIZE = 1000;
 
     public UserResponseDto register(UserRequestDto userRequestDto){
         if(userRepository.existsByUserId(userRequestDto.getUserId())){
@@ -37,6 +61,7 @@ public class UserService {
         String encodedPassword = passwordEncoder.encode(userRequestDto.getUserPw());
         userRequestDto.setUserPw(encodedPassword);
         User savedUser = userRepository.save(userRequestDto.toEntity());
+        leaderboardService.recordNewUser(savedUser.getId(), savedUser.getUserName(), savedUser.getVersion());
         return UserResponseDto.fromEntity(savedUser);
     }
 
@@ -52,37 +77,131 @@ public class UserService {
         // 2. SecurityContext 생성 및 인증 정보 세팅
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // 3. 세션에 SecurityContext 저장 (Spring Security 6.x 필수)
-        HttpSessionSecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
-        securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
+        // 3. 세션에 SecurityContext 저장 (Spring Security 6.x 필수, 서명 토큰 모드에서는 세션을 쓰지 않음)
+        if (signedTokenService.getIfAvailable() == null) {
+            HttpSessionSecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+            securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
+        }
 
-        // 4. 사용자 정보 조회 및 반환
-        User user = userRepository.findByUserId(loginDto.getUserId())
+        // 4. 사용자 정보 조회 및 반환 (principal 에 담긴 기본키로 조회)
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        User user = userRepository.findById(principal.getId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
         return UserResponseDto.fromEntity(user);
     }
 
+    /**
+     * 현재 인증된 사용자의 서명 토큰 발급 (서명 토큰 모드가 아니면 null)
+     */
+    public String issueAccessToken() {
+        SignedTokenService tokenService = signedTokenService.getIfAvailable();
+        if (tokenService == null) {
+            return null;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return tokenService.issue((AuthenticatedUser) authentication.getPrincipal());
+    }
+
     public void logout(HttpServletRequest request, HttpServletResponse response) {
-        // 세션 무효화
-        request.getSession().invalidate();
+        // 세션 무효화 (서명 토큰 모드처럼 세션이 없으면 새로 만들지 않음)
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
         SecurityContextHolder.clearContext();
 
 
     }
 
+    /**
+     * 사용자 목록 (기존 /users/list 응답 형식 유지, 엔티티 대신 공개 컬럼만 조회)
+     * id 순 앞쪽 MAX_LIST_SIZE 명까지만 - 전체는 /users/page 또는 /users/list/export 사용
+     */
     public List<UserResponseDto> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(UserResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return userRepository.findProfiles(Limit.of(MAX_LIST_SIZE));
+    }
+
+    /**
+     * 사용자 목록 커서 페이지 조회 (id 순, 비밀번호 등 비공개 컬럼은 조회하지 않음)
+     */
+    public CursorPageDto<UserResponseDto> getUserPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (count 쿼리 없음)
+        Limit limit = Limit.of(pageSize + 1);
+        List<UserResponseDto> rows = cursor == null || cursor.isBlank()
+                ? userRepository.findProfiles(limit)
+                : userRepository.findProfilesAfter(parseCursor(cursor), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserResponseDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return new CursorPageDto<>(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 사용자 목록을 NDJSON(한 줄에 JSON 하나)으로 출력
+     * DB 커서에서 한 행씩 읽어 바로 쓰므로 사용자 수와 관계없이 메모리 사용량 일정
+     * 클래스의 읽기-쓰기 트랜잭션 대신 읽기 전용 (replica 라우팅, flush 없음)
+     */
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public void exportUsers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserResponseDto.class);
+        BufferedOutputStream buffered = new BufferedOutputStream(out);
+        try (Stream<UserResponseDto> rows = userRepository.streamProfiles()) {
+            Iterator<UserResponseDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                buffered.write(writer.writeValueAsBytes(iterator.next()));
+                buffered.write('\n');
+            }
+        }
+        buffered.flush();
+    }
+
+    private Long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
     }
 
 
 
+    /**
+     * 현재 인증된 사용자 정보 (principal 에 기본키가 있으면 기본키로, 프로필 캐시 사용)
+     */
+    public UserResponseDto getCurrentUser(UserDetails userDetails) {
+        if (userDetails instanceof AuthenticatedUser principal) {
+            return toResponse(userProfileCache.findById(principal.getId()));
+        }
+        return getCurrentUserByUserId(userDetails.getUsername());
+    }
+
     public UserResponseDto getCurrentUserByUserId(String userId) {
-        User user = userRepository.findByUserId(userId)
+        return toResponse(userProfileCache.findByUserId(userId));
+    }
+
+    /**
+     * 사용자 프로필 캐시 적중/미스/제거 횟수
+     */
+    public Map<String, CacheStatsDto> getProfileCacheStats() {
+        Map<String, CacheStatsDto> stats = new LinkedHashMap<>();
+        stats.put("profiles", CacheStatsDto.from(userProfileCache.getProfiles()));
+        stats.put("idsByUserId", CacheStatsDto.from(userProfileCache.getIdsByUserId()));
+        return stats;
+    }
+
+    private UserResponseDto toResponse(Optional<UserProfileCache.UserProfile> profile) {
+        UserProfileCache.UserProfile user = profile
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        return UserResponseDto.fromEntity(user);
+        return UserResponseDto.builder()
+                .id(user.id())
+                .userId(user.userId())
+                .userName(user.userName())
+                .totalFocusTime(user.totalFocusTime())
+                .currentPoints(user.currentPoints())
+                .build();
     }
 }
@@ -1,12 +1,21 @@
 package com.example.TodoListProject.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
 
 @Configuration
 @EnableTransactionManagement
@@ -16,4 +25,38 @@ public class DatabaseConfig {
     public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
         return new JpaTransactionManager(entityManagerFactory);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 쓰기용 커넥션 풀 (spring.datasource.* 접속 정보, spring.datasource.hikari.* 풀 설정)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 읽기 전용 복제본 커넥션 풀 (app.datasource.replica.* - jdbc-url 이 있을 때만 생성, 빈 값이면 복제본 없음)
+     */
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    @ConditionalOnExpression("!'${app.datasource.replica.jdbc-url:}'.isBlank()")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * JPA / JdbcTemplate 이 사용하는 DataSource
+     * 실제 커넥션은 첫 SQL 실행 시점에 가져오므로, 그때 커넥션이 읽기 전용(@Transactional(readOnly = true))이면
+     * 복제본 풀에서, 아니면 primary 풀에서 가져옴. 복제본이 없으면 모두 primary 사용
+     * 복제 지연이 있으므로 방금 쓴 값을 바로 읽어야 하는 코드는 읽기-쓰기 트랜잭션 안에서 읽어야 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primaryDataSource);
+        replicaDataSource.ifAvailable(routing::setReadOnlyDataSource);
+        return routing;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.TodoListProject.config;
+
+import com.example.TodoListProject.Cache.BoundedCache;
+import com.example.TodoListProject.Security.PasswordHashingExecutor;
+import com.example.TodoListProject.Service.PurchaseOwnershipCache;
+import com.example.TodoListProject.Service.UserProfileCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Micrometer 계측 설정 (/actuator/prometheus 로 수집)
+ * - http.server.requests: 엔드포인트별 응답 시간 (Spring Boot 기본)
+ * - app.service: @Timed 서비스 메서드 실행 시간
+ * - app.request.statements: 요청별 Hibernate SQL 문 수
+ * - hikaricp.*: 커넥션 풀 (Spring Boot 기본)
+ * - app.cache.*, app.password.hashing.*: 직접 구현한 캐시 / 해시 스레드 풀 상태
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry) {
+        // 보안 필터에서 실행되는 사용자 조회도 포함하도록 가장 바깥에서 실행
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder cacheMetrics(UserProfileCache userProfileCache,
+                                    PurchaseOwnershipCache purchaseOwnershipCache) {
+        return registry -> {
+            bindCache(registry, "user.profiles", userProfileCache.getProfiles());
+            bindCache(registry, "user.ids", userProfileCache.getIdsByUserId());
+            bindCache(registry, "shop.ownership", purchaseOwnershipCache.getCache());
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor passwordHashingExecutor) {
+        return registry -> {
+            Gauge.builder("app.password.hashing.active", passwordHashingExecutor,
+                            PasswordHashingExecutor::getActiveCount)
+                    .register(registry);
+            Gauge.builder("app.password.hashing.queued", passwordHashingExecutor,
+                            PasswordHashingExecutor::getQueueSize)
+                    .register(registry);
+            FunctionCounter.builder("app.password.hashing.rejected", passwordHashingExecutor,
+                            PasswordHashingExecutor::getRejectedCount)
+                    .register(registry);
+        };
+    }
+
+    private void bindCache(MeterRegistry registry, String name, BoundedCache<?, ?> cache) {
+        Gauge.builder("app.cache.size", cache, BoundedCache::size)
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("app.cache.requests", cache, BoundedCache::getHitCount)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("app.cache.requests", cache, BoundedCache::getMissCount)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("app.cache.evictions", cache, BoundedCache::getEvictionCount)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
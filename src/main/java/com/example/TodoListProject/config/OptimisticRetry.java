@@ -0,0 +1,24 @@
+package com.example.TodoListProject.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌(@Version) 시 트랜잭션 전체를 다시 실행
+ * 트랜잭션 바깥에서 감싸야 하므로 @Transactional 메서드에 함께 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+
+    // 최초 실행을 포함한 최대 시도 횟수
+    int maxAttempts() default 3;
+
+    // 첫 재시도 대기 시간 (이후 두 배씩 증가)
+    long backoffMillis() default 20L;
+
+    // 재시도 대기 시간 상한
+    long maxBackoffMillis() default 200L;
+}
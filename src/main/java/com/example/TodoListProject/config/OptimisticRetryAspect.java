@@ -0,0 +1,117 @@
+package com.example.TodoListProject.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @OptimisticRetry 메서드를 낙관적 락 충돌 시 지수 백오프로 재실행
+ * 트랜잭션 어드바이저(LOWEST_PRECEDENCE)보다 바깥에서 동작해야 매 시도가 새 트랜잭션이 됨
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class OptimisticRetryAspect {
+
+    // 메서드별 재시도 횟수 / 재시도 후 성공 / 재시도 한도 초과 카운터
+    private final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> recovered = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> exhausted = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticRetryAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(optimisticRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry optimisticRetry) throws Throwable {
+        String method = joinPoint.getSignature().toShortString();
+        long backoff = optimisticRetry.backoffMillis();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    counter(recovered, "recovered", method).increment();
+                }
+                return result;
+            } catch (Throwable e) {
+                if (!isOptimisticLockFailure(e)) {
+                    throw e;
+                }
+                if (attempt >= optimisticRetry.maxAttempts()) {
+                    counter(exhausted, "exhausted", method).increment();
+                    log.warn("낙관적 락 재시도 한도 초과 - {}, 시도 횟수: {}", method, attempt);
+                    throw e;
+                }
+
+                counter(retries, "retried", method).increment();
+                log.debug("낙관적 락 충돌 재시도 - {}, 시도: {}/{}", method, attempt, optimisticRetry.maxAttempts());
+
+                // 동시에 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록 지터 추가
+                Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+                backoff = Math.min(backoff * 2, optimisticRetry.maxBackoffMillis());
+            }
+        }
+    }
+
+    public Map<String, Long> getRetryCounts() {
+        return snapshot(retries);
+    }
+
+    public Map<String, Long> getRecoveredCounts() {
+        return snapshot(recovered);
+    }
+
+    public Map<String, Long> getExhaustedCounts() {
+        return snapshot(exhausted);
+    }
+
+    // 서비스에서 예외를 감싸서 던지는 경우가 있으므로 원인 체인 전체를 확인
+    private boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    // 처음 사용되는 메서드의 카운터는 app.optimistic.retry 메트릭으로도 등록
+    private LongAdder counter(Map<String, LongAdder> counters, String outcome, String method) {
+        return counters.computeIfAbsent(method, key -> {
+            LongAdder adder = new LongAdder();
+            FunctionCounter.builder("app.optimistic.retry", adder, LongAdder::sum)
+                    .tag("method", key)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+            return adder;
+        });
+    }
+
+    private Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((method, count) -> result.put(method, count.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+}
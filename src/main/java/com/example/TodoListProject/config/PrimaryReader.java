@@ -0,0 +1,43 @@
+package com.example.TodoListProject.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연 없이 최신 값을 읽어야 하는 조회(메모리 캐시 로더 등)를 primary 풀에서 실행
+ * 호출한 쪽이 복제본으로 라우팅되는 읽기 전용 트랜잭션 안일 때만 새 읽기-쓰기 트랜잭션(REQUIRES_NEW)을 열어 primary 커넥션을 사용
+ * 읽기-쓰기 트랜잭션이거나 복제본이 없으면 이미 primary 커넥션을 쓰고 있으므로 현재 트랜잭션에 참여
+ * (같은 primary 풀에서 커넥션을 하나 더 잡으면 풀이 모두 사용 중일 때 서로 기다리며 멈춤)
+ * 결과는 새 트랜잭션이 끝난 뒤 반환될 수 있으므로 지연 로딩이 필요 없는 값(id 목록, 사본 등)만 돌려줘야 함
+ */
+@Component
+public class PrimaryReader {
+
+    private final TransactionTemplate currentTransaction;
+    private final TransactionTemplate newTransaction;
+    private final boolean replicaAvailable;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager,
+                         @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource) {
+        this.currentTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.replicaAvailable = replicaDataSource.getIfAvailable() != null;
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (replicaAvailable && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return newTransaction.execute(status -> query.get());
+        }
+        return currentTransaction.execute(status -> query.get());
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.TodoListProject.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// app.scheduling.enabled=false 면 주기 작업을 띄우지 않음 (테스트/벤치마크에서 직접 호출할 때)
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
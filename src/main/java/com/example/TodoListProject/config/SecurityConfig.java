@@ -1,5 +1,12 @@
 package com.example.TodoListProject.config;
 
+import com.example.TodoListProject.Security.BoundedBCryptPasswordEncoder;
+import com.example.TodoListProject.Security.PasswordHashingExecutor;
+import com.example.TodoListProject.Security.SignedTokenAuthenticationFilter;
+import com.example.TodoListProject.Security.SignedTokenService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,24 +15,42 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // 웹 서버 없이 띄우는 컨텍스트(JMH 서비스 벤치마크 등)에는 필터 체인이 필요 없음
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   ObjectProvider<SignedTokenService> signedTokenService) throws Exception {
+        SignedTokenService tokenService = signedTokenService.getIfAvailable();
         http
                 .cors(Customizer.withDefaults())
-                .csrf(csrf -> csrf.disable()) // CSRF 보호 비활성화 (REST API라면 권장)
-                .sessionManagement(session -> session
-                        .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED) // 세션 생성 정책
-                        .maximumSessions(1) // 동시 세션 수 제한
-                        .maxSessionsPreventsLogin(false) // 새 로그인 시 기존 세션 무효화
-                )
+                .csrf(csrf -> csrf.disable()); // CSRF 보호 비활성화 (REST API라면 권장)
+
+        if (tokenService != null) {
+            // 서명 토큰 모드 (auth.token.enabled=true): 세션을 만들지 않고 요청마다 토큰 검증
+            http
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                    )
+                    .addFilterBefore(new SignedTokenAuthenticationFilter(tokenService),
+                            UsernamePasswordAuthenticationFilter.class);
+        } else {
+            http
+                    .sessionManagement(session -> session
+                            .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED) // 세션 생성 정책
+                            .maximumSessions(1) // 동시 세션 수 제한
+                            .maxSessionsPreventsLogin(false) // 새 로그인 시 기존 세션 무효화
+                    );
+        }
+
+        http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/users/register",
@@ -34,7 +59,9 @@ public class SecurityConfig {
                                 "/users/me",
                                 "/error",
                                 "/points/**",
-                                "/shop/**"
+                                "/shop/**",
+                                "/actuator/health",
+                                "/actuator/prometheus"
 
                         ).permitAll()
 
@@ -44,8 +71,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // 비밀번호 암호화 방식 지정
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-cost:10}") int bcryptCost,
+                                           PasswordHashingExecutor passwordHashingExecutor) {
+        // 비밀번호 암호화 방식 지정 (BCrypt, 전용 스레드 풀에서 해시)
+        return new BoundedBCryptPasswordEncoder(bcryptCost, passwordHashingExecutor);
     }
 
     @Bean
@@ -0,0 +1,32 @@
+package com.example.TodoListProject.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 요청 스레드에서 Hibernate 가 준비한 SQL 문 수 집계
+ * RequestMetricsFilter 가 요청 시작 시 start(), 끝날 때 stop() 으로 값을 가져감
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 요청 동안 실행된 SQL 수 (start() 없이 호출하면 0)
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.TodoListProject.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * spring.threads.virtual.enabled=true 일 때 실행 환경 확인
+ * 톰캣 / 스케줄러 전환은 Spring Boot 가 처리하지만 Java 21 미만에서는 설정이 조용히 무시되므로 경고
+ *
+ * 고정(pinning) 점검 결과
+ * - 애플리케이션 코드: synchronized 없음 (캐시, 리더보드, 카탈로그 모두 ReentrantLock / 읽기-쓰기 락 사용)
+ * - JDBC: HikariCP 는 잠금 없는 ConcurrentBag, MySQL 드라이버는 ReentrantLock 을 쓰는 mysql-connector-j 9.x 사용
+ * - BCrypt: PasswordHashingExecutor 의 플랫폼 스레드에서 해시하고 요청 스레드는 Future 대기만 하므로
+ *   가상 스레드가 CPU 작업으로 캐리어 스레드를 점유하지 않음
+ * 고정 여부는 -Djdk.tracePinnedThreads=short 로 실행해서 확인
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @PostConstruct
+    public void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("가상 스레드 설정이 켜져 있지만 Java {} 에서는 적용되지 않습니다 (Java 21 이상 필요)", feature);
+        } else {
+            log.info("가상 스레드 모드 - 요청 처리와 스케줄 작업이 가상 스레드에서 실행됩니다");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+-- ===================================
+-- V1: 기존 운영 스키마 (마이그레이션 도입 이전 ddl-auto=update 로 만들어지던 구조)
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 이 버전을 기준선으로 기록하고 V2 부터 적용됨
+-- 새 DB 는 이 버전부터 순서대로 적용되므로 어느 쪽이든 같은 최종 스키마가 됨
+-- ===================================
+
+-- 사용자
+CREATE TABLE todo_users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id VARCHAR(255),                          -- 로그인 ID
+    user_pw VARCHAR(255),                          -- 암호화된 비밀번호
+    user_name VARCHAR(255),
+    total_focus_time BIGINT,                       -- 총 집중시간 (초)
+    current_points BIGINT,                         -- 현재 보유 포인트
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- 할 일 (@GeneratedValue 기본값 - Hibernate 가 todo_seq 테이블로 id 할당)
+CREATE TABLE todo (
+    id BIGINT NOT NULL,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    status ENUM('DONE', 'IN_PROGRESS', 'TODO'),
+    total_focus_time BIGINT,                       -- 할 일별 집중시간 (초)
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES todo_users (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE todo_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO todo_seq VALUES (1);
+
+-- 포인트 획득 이력
+CREATE TABLE points (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    focus_time_used BIGINT NOT NULL,               -- 포인트로 변환된 집중시간 (초)
+    points_earned BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_points_user FOREIGN KEY (user_id) REFERENCES todo_users (id)
+) ENGINE=InnoDB;
+
+-- 상점 아이템
+CREATE TABLE shop_items (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    item_name VARCHAR(255),
+    description VARCHAR(255),
+    price BIGINT,
+    category VARCHAR(255),
+    is_active BIT,
+    created_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- 구매 기록
+CREATE TABLE user_purchases (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT,
+    shop_item_id BIGINT,
+    purchased_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_purchases_user FOREIGN KEY (user_id) REFERENCES todo_users (id),
+    CONSTRAINT fk_user_purchases_shop_item FOREIGN KEY (shop_item_id) REFERENCES shop_items (id)
+) ENGINE=InnoDB;
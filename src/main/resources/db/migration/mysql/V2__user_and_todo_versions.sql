@@ -0,0 +1,15 @@
+-- ===================================
+-- V2: 낙관적 락 버전 / 칸반 보드 버전 / 포인트로 변환된 집중시간 누적값
+-- ===================================
+
+ALTER TABLE todo_users
+    ADD COLUMN converted_focus_time BIGINT DEFAULT 0,
+    ADD COLUMN board_version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE todo
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 변환된 집중시간은 지금까지의 포인트 이력 합계로 시작 (이후 적립 시 같은 트랜잭션에서 누적)
+UPDATE todo_users u
+SET u.converted_focus_time = (SELECT COALESCE(SUM(p.focus_time_used), 0) FROM points p WHERE p.user_id = u.id);
@@ -0,0 +1,21 @@
+-- ===================================
+-- V3: points / user_purchases id 를 AUTO_INCREMENT 에서 pooled 시퀀스(allocationSize 50)로 전환
+-- MySQL 에는 시퀀스가 없으므로 Hibernate 가 *_seq 테이블로 대신 관리
+-- pooled 방식은 읽은 값에서 allocationSize(50) - 1 만큼 아래부터 id 를 할당하므로
+-- 기존 최대 id + 51 이상으로 시작해야 기존 행과 충돌하지 않음
+-- ===================================
+
+ALTER TABLE points MODIFY id BIGINT NOT NULL;
+ALTER TABLE user_purchases MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE points_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO points_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM points;
+
+CREATE TABLE user_purchases_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO user_purchases_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM user_purchases;
+
+-- todo_seq 는 이미 Hibernate 가 쓰고 있으므로 현재 값보다 작아지지 않게만 맞춤
+-- (실행 중인 서버가 미리 받아 둔 id 구간과 겹치지 않도록)
+SET @todo_next = (SELECT COALESCE(MAX(id), 0) + 51 FROM todo);
+UPDATE todo_seq SET next_val = GREATEST(next_val, @todo_next);
+INSERT INTO todo_seq (next_val) SELECT @todo_next FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM todo_seq);
@@ -0,0 +1,14 @@
+-- ===================================
+-- V4: 같은 아이템 중복 구매 방지 유니크 제약
+-- 원자적 구매 처리 이전에 동시 요청으로 생긴 중복 행은 가장 먼저 구매한 행만 남김
+-- ===================================
+
+DELETE duplicate
+FROM user_purchases duplicate
+JOIN user_purchases kept
+    ON kept.user_id = duplicate.user_id
+    AND kept.shop_item_id = duplicate.shop_item_id
+    AND kept.id < duplicate.id;
+
+ALTER TABLE user_purchases
+    ADD CONSTRAINT uk_user_purchases_user_item UNIQUE (user_id, shop_item_id);
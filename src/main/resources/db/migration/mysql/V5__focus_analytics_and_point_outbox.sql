@@ -0,0 +1,34 @@
+-- ===================================
+-- V5: 집중시간 통계(이벤트 / 구간 집계)와 포인트 자동 적립 대기 테이블
+-- ===================================
+
+-- 집중시간 변경 이벤트 (추가만 함)
+CREATE TABLE focus_sessions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    delta_seconds BIGINT NOT NULL,                 -- 집중시간 변화량 (초, 줄인 경우 음수)
+    occurred_at DATETIME(6) NOT NULL,
+    rolled_up BIT NOT NULL,                        -- 구간 집계 반영 여부
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- 시간/일/주 구간 집계 (todo_id = 0 은 사용자 전체 합계)
+CREATE TABLE focus_rollups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    granularity ENUM('DAY', 'HOUR', 'WEEK') NOT NULL,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    total_seconds BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_focus_rollups_bucket UNIQUE (granularity, user_id, todo_id, bucket_start)
+) ENGINE=InnoDB;
+
+-- 포인트 자동 적립 대기
+CREATE TABLE point_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
@@ -0,0 +1,52 @@
+-- ===================================
+-- V6: 조회 경로별 인덱스
+-- ddl-auto=update 시절 DB 에는 일부만 있을 수 있으므로 없을 때만 생성 (MySQL 은 CREATE INDEX IF NOT EXISTS 미지원)
+-- ===================================
+
+-- 칸반 보드 / 상태별 조회
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_user_status ON todo (user_id, status)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'todo' AND index_name = 'idx_user_status');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자별 포인트 이력 keyset 페이지 / 스트리밍
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_points_user_created_at ON points (user_id, created_at)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'points' AND index_name = 'idx_points_user_created_at');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자별 구매 이력 keyset 페이지
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_user_purchases_user_purchased_at ON user_purchases (user_id, purchased_at)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'user_purchases' AND index_name = 'idx_user_purchases_user_purchased_at');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 로그인 아이디로 사용자 조회
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_todo_users_user_id ON todo_users (user_id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'todo_users' AND index_name = 'idx_todo_users_user_id');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 집계되지 않은 이벤트 배치 조회
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_focus_sessions_rolled_up ON focus_sessions (rolled_up, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'focus_sessions' AND index_name = 'idx_focus_sessions_rolled_up');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 사용자별 적립 대기 행 조회 / 삭제
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_point_outbox_user_id ON point_outbox (user_id, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'point_outbox' AND index_name = 'idx_point_outbox_user_id');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
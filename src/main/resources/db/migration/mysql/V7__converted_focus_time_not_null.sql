@@ -0,0 +1,9 @@
+-- ===================================
+-- V7: 변환된 집중시간은 항상 값이 있음 (V2 에서 백필, 이후 적립 시 같은 트랜잭션에서 누적)
+-- ===================================
+
+UPDATE todo_users u
+SET u.converted_focus_time = (SELECT COALESCE(SUM(p.focus_time_used), 0) FROM points p WHERE p.user_id = u.id)
+WHERE u.converted_focus_time IS NULL;
+
+ALTER TABLE todo_users MODIFY converted_focus_time BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,63 @@
+package com.example.TodoListProject.Cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCacheTest {
+
+    @Test
+    void concurrentComputeIfPresentKeepsEveryUpdate() throws Exception {
+        BoundedCache<Long, Set<Integer>> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+        cache.put(1L, Set.of());
+
+        int updates = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < updates; i++) {
+            int value = i;
+            executor.submit(() -> {
+                start.await();
+                // 구매 반영처럼 복사본에 하나를 추가해서 교체
+                cache.computeIfPresent(1L, current -> {
+                    Set<Integer> copy = new HashSet<>(current);
+                    copy.add(value);
+                    return copy;
+                });
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.get(1L)).hasSize(updates);
+    }
+
+    @Test
+    void putIfSkipsWhenConditionFails() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+
+        assertThat(cache.putIf("a", "stale", () -> false)).isFalse();
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.putIf("a", "fresh", () -> true)).isTrue();
+        assertThat(cache.get("a")).isEqualTo("fresh");
+    }
+
+    @Test
+    void computeIfPresentIgnoresMissingKey() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, Duration.ofMinutes(1));
+
+        cache.computeIfPresent("a", value -> value + "!");
+
+        assertThat(cache.get("a")).isNull();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.TodoListProject.Controller;
+
+import com.example.TodoListProject.Dto.UserRequestDto;
+import com.example.TodoListProject.Security.PasswordHashingBusyException;
+import com.example.TodoListProject.Service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 비밀번호 해시 작업 포화 시 공통 429 응답 검증
+ */
+class ApiExceptionHandlerTest {
+
+    @Test
+    void passwordHashingBusyReturns429WithRetryAfter() throws Exception {
+        UserService userService = mock(UserService.class);
+        when(userService.register(any(UserRequestDto.class)))
+                .thenThrow(new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요."));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService))
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+
+        mockMvc.perform(post("/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"busy\",\"userPw\":\"pw\",\"userName\":\"포화\"}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("요청이 많아 잠시 후 다시 시도해 주세요."));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.TodoListProject.Controller;
+
+import com.example.TodoListProject.Dto.CursorPageDto;
+import com.example.TodoListProject.Dto.PointHistoryDto;
+import com.example.TodoListProject.Service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 포인트 이력 응답 형식 검증 (/history 는 배열 유지, /history/page 는 커서 페이지, 내보내기는 본문 전에 사용자 확인)
+ */
+class PointControllerTest {
+
+    private final PointHistoryDto row = new PointHistoryDto(1L, 120L, 2L, LocalDateTime.of(2026, 3, 2, 9, 0));
+
+    private PointService pointService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        pointService = mock(PointService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new PointController(pointService)).build();
+    }
+
+    @Test
+    void historyKeepsArrayShape() throws Exception {
+        when(pointService.getUserPointHistory(7L)).thenReturn(List.of(row));
+
+        mockMvc.perform(get("/points/7/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].pointsEarned").value(2));
+    }
+
+    @Test
+    void historyPageReturnsCursorPage() throws Exception {
+        when(pointService.getUserPointHistoryPage(7L, null, 20))
+                .thenReturn(new CursorPageDto<>(List.of(row), "next", true));
+
+        mockMvc.perform(get("/points/7/history/page"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].pointsEarned").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void exportOfUnknownUserReturns404BeforeStreaming() throws Exception {
+        when(pointService.existsUser(7L)).thenReturn(false);
+
+        mockMvc.perform(get("/points/7/history/export"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("사용자를 찾을 수 없습니다."));
+        verify(pointService, never()).exportUserPointHistory(any(), any());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.TodoListProject.LoadTest;
+
+import java.util.Set;
+
+/**
+ * 부하 테스트에서 재생하는 사용자 흐름과 흐름별로 정상으로 보는 응답 코드
+ */
+enum LoadFlow {
+    LOGIN("POST /users/login", Set.of(200)),
+    BOARD("GET /todos/board", Set.of(200, 304)),
+    FOCUS_TICK("PATCH /todos/{id}/focus-time", Set.of(200)),
+    POINTS("POST /points/{userId}/calculate", Set.of(200)),
+    SHOP_BROWSE("GET /shop/items/{userId}", Set.of(200)),
+    // 포인트 부족 / 이미 구매한 아이템은 400 으로 응답하는 정상 업무 결과
+    SHOP_PURCHASE("POST /shop/purchase", Set.of(200, 400));
+
+    private final String endpoint;
+    private final Set<Integer> expectedStatuses;
+
+    LoadFlow(String endpoint, Set<Integer> expectedStatuses) {
+        this.endpoint = endpoint;
+        this.expectedStatuses = expectedStatuses;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    boolean isExpected(int status) {
+        return expectedStatuses.contains(status);
+    }
+}
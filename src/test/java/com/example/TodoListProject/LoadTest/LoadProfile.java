@@ -0,0 +1,62 @@
+package com.example.TodoListProject.LoadTest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 설정 (시스템 프로퍼티로 변경)
+ * -Dloadtest.users=가상 사용자 수
+ * -Dloadtest.duration-seconds=측정 시간, -Dloadtest.warmup-seconds=측정 전 예열 시간
+ * -Dloadtest.think-time-ms=요청 사이 대기 시간
+ * -Dloadtest.mix=LOGIN:1,BOARD:10,... (흐름별 가중치, 없는 흐름은 0)
+ * -Dloadtest.max-error-rate=허용 오류율 (0~1)
+ */
+record LoadProfile(int users, int durationSeconds, int warmupSeconds, long thinkTimeMillis,
+                   Map<LoadFlow, Integer> mix, double maxErrorRate) {
+
+    private static final String DEFAULT_MIX =
+            "LOGIN:1,BOARD:10,FOCUS_TICK:20,POINTS:5,SHOP_BROWSE:8,SHOP_PURCHASE:2";
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.duration-seconds", 30),
+                Integer.getInteger("loadtest.warmup-seconds", 5),
+                Long.getLong("loadtest.think-time-ms", 0L),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")));
+    }
+
+    static Map<LoadFlow, Integer> parseMix(String mix) {
+        Map<LoadFlow, Integer> weights = new EnumMap<>(LoadFlow.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("흐름 가중치 형식이 잘못되었습니다: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + entry);
+            }
+            weights.put(LoadFlow.valueOf(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("가중치 합이 0입니다: " + mix);
+        }
+        return weights;
+    }
+
+    // 가중치 비율대로 다음 흐름 선택
+    LoadFlow nextFlow() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<LoadFlow, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("흐름 선택 실패");
+    }
+}
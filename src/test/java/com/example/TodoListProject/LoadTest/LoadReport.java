@@ -0,0 +1,88 @@
+package com.example.TodoListProject.LoadTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 응답 시간 / 오류 집계 (가상 사용자 스레드에서 동시에 기록)
+ */
+class LoadReport {
+
+    private final Map<LoadFlow, EndpointStats> stats = new EnumMap<>(LoadFlow.class);
+
+    LoadReport() {
+        for (LoadFlow flow : LoadFlow.values()) {
+            stats.put(flow, new EndpointStats());
+        }
+    }
+
+    void record(LoadFlow flow, long latencyNanos, boolean error) {
+        stats.get(flow).record(latencyNanos, error);
+    }
+
+    long totalRequests() {
+        return stats.values().stream().mapToLong(EndpointStats::count).sum();
+    }
+
+    long totalErrors() {
+        return stats.values().stream().mapToLong(EndpointStats::errors).sum();
+    }
+
+    double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0 : (double) totalErrors() / total;
+    }
+
+    String format(double elapsedSeconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("[loadtest] %-32s %8s %10s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/sec", "p50(ms)", "p99(ms)", "max(ms)", "errors"));
+        stats.forEach((flow, endpoint) -> {
+            if (endpoint.count() > 0) {
+                long[] sorted = endpoint.sortedLatencies();
+                out.append(String.format("[loadtest] %-32s %8d %10.1f %9.2f %9.2f %9.2f %7.2f%%%n",
+                        flow.endpoint(), sorted.length, sorted.length / elapsedSeconds,
+                        percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6,
+                        endpoint.errors() * 100.0 / sorted.length));
+            }
+        });
+        out.append(String.format("[loadtest] total: %d requests, %.1f req/sec, error rate %.2f%%",
+                totalRequests(), totalRequests() / elapsedSeconds, errorRate() * 100));
+        return out.toString();
+    }
+
+    // nearest-rank 백분위수 (ms)
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static final class EndpointStats {
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+
+        synchronized void record(long latencyNanos, boolean error) {
+            latencies.add(latencyNanos);
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized long count() {
+            return latencies.size();
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
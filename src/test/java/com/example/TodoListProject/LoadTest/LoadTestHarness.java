@@ -0,0 +1,98 @@
+package com.example.TodoListProject.LoadTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 컨트롤러를 내장 H2 위에서 띄우고 가상 사용자들이 로그인 / 보드 / 집중시간 / 포인트 / 상점 흐름을
+ * 가중치대로 반복 호출해서 엔드포인트별 처리량, p50/p99 응답 시간, 오류율을 출력
+ * ./gradlew loadTest -Dloadtest.users=50 -Dloadtest.duration-seconds=60 로 실행 (설정은 LoadProfile 참고)
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+class LoadTestHarness {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void replayTrafficMix() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        System.out.printf("[loadtest] users=%d, duration=%ds, warmup=%ds, think-time=%dms, mix=%s%n",
+                profile.users(), profile.durationSeconds(), profile.warmupSeconds(),
+                profile.thinkTimeMillis(), profile.mix());
+
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < profile.users(); i++) {
+            VirtualUser user = new VirtualUser("http://localhost:" + port, objectMapper, i);
+            user.setUp();
+            users.add(user);
+        }
+
+        // 예열 구간 결과는 버림
+        run(users, profile, profile.warmupSeconds(), new LoadReport());
+
+        LoadReport report = new LoadReport();
+        long start = System.nanoTime();
+        run(users, profile, profile.durationSeconds(), report);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(report.format(elapsedSeconds));
+        assertThat(report.totalRequests()).isPositive();
+        assertThat(report.errorRate()).isLessThanOrEqualTo(profile.maxErrorRate());
+    }
+
+    // 가상 사용자마다 스레드 하나로 정해진 시간 동안 흐름 반복
+    private void run(List<VirtualUser> users, LoadProfile profile, int seconds, LoadReport report) throws Exception {
+        if (seconds <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (VirtualUser user : users) {
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        LoadFlow flow = profile.nextFlow();
+                        long begin = System.nanoTime();
+                        boolean error;
+                        try {
+                            error = !flow.isExpected(user.execute(flow));
+                        } catch (Exception e) {
+                            error = true;
+                        }
+                        report.record(flow, System.nanoTime() - begin, error);
+                        if (profile.thinkTimeMillis() > 0) {
+                            Thread.sleep(profile.thinkTimeMillis());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(seconds + 60L, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
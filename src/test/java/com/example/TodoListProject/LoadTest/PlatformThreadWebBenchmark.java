@@ -0,0 +1,33 @@
+package com.example.TodoListProject.LoadTest;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 톰캣 스레드 풀: 동시 처리 수가 server.tomcat.threads.max 로 제한됨
+ * ./gradlew benchmark 로 실행 (가상 스레드 모드와 비교는 VirtualThreadWebBenchmark)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "server.tomcat.threads.max=" + WebThreadingBenchmarkSupport.TOMCAT_MAX_THREADS,
+        "server.tomcat.accept-count=" + WebThreadingBenchmarkSupport.REQUESTS
+})
+@ActiveProfiles("test")
+@Import(WebThreadingBenchmarkSupport.BlockingEndpointConfig.class)
+class PlatformThreadWebBenchmark extends WebThreadingBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "플랫폼 스레드";
+    }
+
+    @Override
+    void verify(Result result) {
+        assertThat(result.peakInFlight()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+    }
+}
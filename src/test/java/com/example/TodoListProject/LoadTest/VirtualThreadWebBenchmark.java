@@ -0,0 +1,36 @@
+package com.example.TodoListProject.LoadTest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드: 톰캣 스레드 수와 관계없이 블로킹 요청을 동시에 처리
+ * Java 21 빌드에서만 실행 (./gradlew benchmark -PjavaVersion=21)
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=" + WebThreadingBenchmarkSupport.TOMCAT_MAX_THREADS,
+        "server.tomcat.accept-count=" + WebThreadingBenchmarkSupport.REQUESTS
+})
+@ActiveProfiles("test")
+@Import(WebThreadingBenchmarkSupport.BlockingEndpointConfig.class)
+class VirtualThreadWebBenchmark extends WebThreadingBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "가상 스레드";
+    }
+
+    @Override
+    void verify(Result result) {
+        assertThat(result.peakInFlight()).isGreaterThan(TOMCAT_MAX_THREADS);
+    }
+}
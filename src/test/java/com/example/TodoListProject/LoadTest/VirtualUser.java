@@ -0,0 +1,128 @@
+package com.example.TodoListProject.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 세션 쿠키를 가진 가상 사용자 한 명 (회원가입 -> 로그인 -> 할 일 생성 후 흐름 반복)
+ */
+class VirtualUser {
+
+    private static final int TODOS = 5;
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final String loginId;
+    private final String password = "load-test-pw";
+
+    private Long userId;
+    private final List<Long> todoIds = new ArrayList<>();
+    private final Map<Long, Long> focusTimes = new HashMap<>();
+    private List<Long> shopItemIds = List.of();
+    private String boardETag;
+
+    VirtualUser(String baseUrl, ObjectMapper objectMapper, int index) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.loginId = "load-" + index + "-" + System.nanoTime();
+    }
+
+    /**
+     * 측정 전 준비: 회원가입, 로그인, 할 일 생성, 상점 아이템 목록 조회
+     */
+    void setUp() throws IOException, InterruptedException {
+        send(post("/users/register", Map.of("userId", loginId, "userPw", password, "userName", loginId)), 200);
+        JsonNode login = send(post("/users/login", Map.of("userId", loginId, "userPw", password)), 200);
+        userId = login.path("user").path("id").asLong();
+
+        for (int i = 0; i < TODOS; i++) {
+            JsonNode todo = send(post("/todos", Map.of("title", "부하 테스트 " + i, "description", loginId)), 200);
+            todoIds.add(todo.path("id").asLong());
+            focusTimes.put(todo.path("id").asLong(), 0L);
+        }
+
+        List<Long> ids = new ArrayList<>();
+        send(get("/shop/items/" + userId), 200).forEach(item -> ids.add(item.path("id").asLong()));
+        shopItemIds = ids;
+    }
+
+    /**
+     * 흐름 한 번 실행 후 응답 코드 반환 (응답 시간 측정은 호출하는 쪽에서)
+     */
+    int execute(LoadFlow flow) throws IOException, InterruptedException {
+        return switch (flow) {
+            case LOGIN -> status(post("/users/login", Map.of("userId", loginId, "userPw", password)));
+            case BOARD -> {
+                HttpRequest.Builder request = get("/todos/board");
+                if (boardETag != null) {
+                    request.header("If-None-Match", boardETag);
+                }
+                HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                response.headers().firstValue("ETag").ifPresent(etag -> boardETag = etag);
+                yield response.statusCode();
+            }
+            case FOCUS_TICK -> {
+                // 타이머가 5~60초씩 누적 집중시간을 보내는 상황
+                Long todoId = todoIds.get(ThreadLocalRandom.current().nextInt(todoIds.size()));
+                long focusTime = focusTimes.merge(todoId, ThreadLocalRandom.current().nextLong(5, 61), Long::sum);
+                yield status(HttpRequest.newBuilder(uri("/todos/" + todoId + "/focus-time?focusTime=" + focusTime))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+            }
+            case POINTS -> status(HttpRequest.newBuilder(uri("/points/" + userId + "/calculate"))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            case SHOP_BROWSE -> status(get("/shop/items/" + userId));
+            case SHOP_PURCHASE -> {
+                if (shopItemIds.isEmpty()) {
+                    yield status(get("/shop/items/" + userId));
+                }
+                Long itemId = shopItemIds.get(ThreadLocalRandom.current().nextInt(shopItemIds.size()));
+                yield status(post("/shop/purchase", Map.of("userId", userId, "shopItemId", itemId)));
+            }
+        };
+    }
+
+    private int status(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private JsonNode send(HttpRequest.Builder request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.build().uri() + " 응답 " + response.statusCode()
+                    + ": " + new String(response.body()));
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Object body) throws IOException {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.TodoListProject.LoadTest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 비교용 공통 측정
+ * 느린 MySQL 호출을 흉내 내는 블로킹 엔드포인트(/bench/blocking)에 동시 요청을 보내고
+ * 동시 처리 수, 처리량, p99, 플랫폼 스레드 수, 처리 중 요청 하나당 힙 증가량을 출력
+ */
+abstract class WebThreadingBenchmarkSupport {
+
+    static final int TOMCAT_MAX_THREADS = 200;
+
+    // 연결 요청이 backlog 에서 밀려 재시도되지 않도록 accept-count 도 이 값으로 설정
+    static final int REQUESTS = 2_000;
+    private static final long BLOCKING_MILLIS = 200;
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    abstract String mode();
+
+    abstract void verify(Result result);
+
+    @Test
+    void blockingRequests() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + port + "/bench/blocking");
+
+        // 예열
+        send(client, uri, 50);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        threads.resetPeakThreadCount();
+        peakInFlight.set(0);
+
+        long start = System.nanoTime();
+        long[] latencies = send(client, uri, REQUESTS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        long heapAfter = memory.getHeapMemoryUsage().getUsed();
+
+        Arrays.sort(latencies);
+        int peak = peakInFlight.get();
+        Result result = new Result(mode(), peak, REQUESTS / elapsedSeconds,
+                latencies[(int) Math.ceil(0.99 * latencies.length) - 1] / 1e6,
+                threads.getPeakThreadCount(), Math.max(heapAfter - heapBefore, 0) / Math.max(peak, 1));
+        System.out.println(result);
+        verify(result);
+    }
+
+    // 요청을 한꺼번에 보내고 요청별 응답 시간(ns) 반환
+    private long[] send(HttpClient client, URI uri, int requests) {
+        List<CompletableFuture<Long>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            long begin = System.nanoTime();
+            futures.add(client.sendAsync(HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> {
+                        assertThat(response.statusCode()).isEqualTo(200);
+                        return System.nanoTime() - begin;
+                    }));
+        }
+        return futures.stream()
+                .map(future -> future.orTimeout(120, TimeUnit.SECONDS).join())
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    record Result(String mode, int peakInFlight, double requestsPerSecond, double p99Millis,
+                  int peakPlatformThreads, long heapBytesPerInFlightRequest) {
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %s: 동시 처리 최대 %d건, %.0f req/sec, p99 %.0fms, "
+                            + "플랫폼 스레드 최대 %d개, 처리 중 요청당 힙 %d bytes",
+                    mode, peakInFlight, requestsPerSecond, p99Millis, peakPlatformThreads,
+                    heapBytesPerInFlightRequest);
+        }
+    }
+
+    @TestConfiguration
+    static class BlockingEndpointConfig {
+
+        // 측정용 엔드포인트만 인증 없이 허용
+        @Bean
+        @Order(0)
+        SecurityFilterChain benchSecurityFilterChain(HttpSecurity http) throws Exception {
+            return http.securityMatcher("/bench/**")
+                    .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                    .build();
+        }
+
+        @Bean
+        BlockingController blockingController() {
+            return new BlockingController();
+        }
+    }
+
+    @RestController
+    static class BlockingController {
+
+        // 느린 DB 호출처럼 요청 스레드를 잡고 기다림
+        @GetMapping("/bench/blocking")
+        String blocking() throws InterruptedException {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BLOCKING_MILLIS);
+                return "ok";
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
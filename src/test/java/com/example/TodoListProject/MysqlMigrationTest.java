@@ -0,0 +1,148 @@
+package com.example.TodoListProject;
+
+import com.example.TodoListProject.Entity.Point;
+import com.example.TodoListProject.Repository.PointRepository;
+import com.example.TodoListProject.Repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL 마이그레이션 검증 (Docker 가 있을 때만 실행)
+ * 마이그레이션 도입 이전 운영 DB(V1 스키마 + 데이터)로 기동 -> V1 기준선 기록 후 V2 부터 적용 -> Hibernate validate 통과
+ * 빈 DB 에 V1 부터 적용한 스키마와도 같은지 비교
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = "app.scheduling.enabled=false")
+class MysqlMigrationTest {
+
+    private static final String EXISTING_SCHEMA = "test";
+    private static final String FRESH_SCHEMA = "fresh";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName(EXISTING_SCHEMA)
+            .withUsername("root")
+            .withPassword("test");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PointRepository pointRepository;
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) throws SQLException {
+        // 애플리케이션 기동(Flyway 실행) 전에 기존 운영 DB 상태를 만들어 둠
+        seedExistingDatabase();
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Test
+    void existingDatabaseIsBaselinedAndUpgraded() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 ORDER BY installed_rank", String.class);
+        assertThat(versions).containsExactly("1", "2", "3", "4", "5", "6", "7");
+
+        // 변환된 집중시간은 기존 포인트 이력 합계로 백필
+        assertThat(jdbcTemplate.queryForObject("SELECT converted_focus_time FROM todo_users WHERE id = 1", Long.class))
+                .isEqualTo(180L);
+        assertThat(jdbcTemplate.queryForObject("SELECT converted_focus_time FROM todo_users WHERE id = 2", Long.class))
+                .isEqualTo(300L);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM todo WHERE id = 1", Long.class)).isZero();
+
+        // 시퀀스는 기존 최대 id + 51 부터, 이미 쓰던 todo_seq 는 줄어들지 않음
+        assertThat(nextVal("points_seq")).isEqualTo(54L);
+        assertThat(nextVal("user_purchases_seq")).isEqualTo(54L);
+        assertThat(nextVal("todo_seq")).isEqualTo(151L);
+
+        // 중복 구매는 먼저 구매한 행만 남음
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM user_purchases ORDER BY id", Long.class))
+                .containsExactly(1L, 3L);
+
+        // 새로 할당되는 id 는 기존 행과 겹치지 않음 (시퀀스 값 확인 뒤에 insert)
+        Point point = pointRepository.save(Point.builder()
+                .user(userRepository.getReferenceById(1L))
+                .focusTimeUsed(60L)
+                .pointsEarned(1L)
+                .build());
+
+        assertThat(point.getId()).isGreaterThan(3L);
+    }
+
+    @Test
+    void freshDatabaseEndsWithSameSchema() {
+        jdbcTemplate.execute("CREATE DATABASE " + FRESH_SCHEMA);
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl().replace("/" + EXISTING_SCHEMA, "/" + FRESH_SCHEMA),
+                        MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration/mysql")
+                .load()
+                .migrate();
+
+        assertThat(columns(FRESH_SCHEMA)).isEqualTo(columns(EXISTING_SCHEMA));
+        assertThat(indexes(FRESH_SCHEMA)).isEqualTo(indexes(EXISTING_SCHEMA));
+    }
+
+    private Long nextVal(String table) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM " + table, Long.class);
+    }
+
+    private List<Map<String, Object>> columns(String schema) {
+        return jdbcTemplate.queryForList(
+                "SELECT table_name, column_name, column_type, is_nullable, column_default, extra " +
+                        "FROM information_schema.columns " +
+                        "WHERE table_schema = ? AND table_name <> 'flyway_schema_history' " +
+                        "ORDER BY table_name, column_name", schema);
+    }
+
+    private List<Map<String, Object>> indexes(String schema) {
+        return jdbcTemplate.queryForList(
+                "SELECT table_name, index_name, seq_in_index, column_name, non_unique " +
+                        "FROM information_schema.statistics " +
+                        "WHERE table_schema = ? AND table_name <> 'flyway_schema_history' " +
+                        "ORDER BY table_name, index_name, seq_in_index", schema);
+    }
+
+    // ddl-auto=update 시절 스키마(V1)와 그때 쌓인 데이터 (Flyway 이력 테이블 없음)
+    private static void seedExistingDatabase() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/mysql/V1__baseline_schema.sql"));
+            for (String sql : List.of(
+                    "INSERT INTO todo_users (id, user_id, user_pw, user_name, total_focus_time, current_points) VALUES " +
+                            "(1, 'alice', 'pw', 'Alice', 200, 3), (2, 'bob', 'pw', 'Bob', 330, 5)",
+                    "INSERT INTO todo (id, title, status, total_focus_time, user_id) VALUES " +
+                            "(1, 'a', 'TODO', 200, 1), (2, 'b', 'DONE', 0, 1), (3, 'c', 'IN_PROGRESS', 330, 2)",
+                    // 실행 중이던 서버가 이미 앞 구간을 받아 간 상태
+                    "UPDATE todo_seq SET next_val = 151",
+                    "INSERT INTO points (id, user_id, focus_time_used, points_earned, created_at) VALUES " +
+                            "(1, 1, 120, 2, NOW(6)), (2, 1, 60, 1, NOW(6)), (3, 2, 300, 5, NOW(6))",
+                    "INSERT INTO shop_items (id, item_name, price, category, is_active, created_at) VALUES " +
+                            "(1, 'theme', 1, 'THEME', 1, NOW(6)), (2, 'badge', 2, 'BADGE', 1, NOW(6))",
+                    "INSERT INTO user_purchases (id, user_id, shop_item_id, purchased_at) VALUES " +
+                            "(1, 1, 1, NOW(6)), (2, 1, 1, NOW(6)), (3, 1, 2, NOW(6))")) {
+                connection.createStatement().execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.TodoListProject.Security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 해시 스레드 풀 포화 시 거절 및 cost 변경 감지 검증
+ */
+class BoundedBCryptPasswordEncoderTest {
+
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 5_000);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void hashesWithConfiguredCost() {
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(5, executor);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void otherCostNeedsRehash() {
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(5, executor);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+    }
+
+    @Test
+    void saturatedPoolRejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        // 스레드 1개를 점유하고 대기열 1칸을 채움
+        CompletableFuture<Object> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> null));
+        while (executor.getQueueSize() == 0) {
+            Thread.onSpinWait();
+        }
+
+        BoundedBCryptPasswordEncoder encoder = new BoundedBCryptPasswordEncoder(4, executor);
+        assertThatThrownBy(() -> encoder.encode("secret")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.TodoListProject.Security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서명 토큰 발급/검증 및 키 파일 교체 검증
+ */
+class SignedTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    private final AuthenticatedUser user = new AuthenticatedUser(
+            42L, "tester|1", "pw", AuthorityUtils.createAuthorityList("ROLE_USER"));
+
+    @Test
+    void issuedTokenVerifiesWithoutLookup() {
+        SignedTokenService service = service(new TokenKeyStore("", secret('a')), NOW);
+
+        AuthenticatedUser verified = service.verify(service.issue(user)).orElseThrow();
+
+        assertThat(verified.getId()).isEqualTo(42L);
+        assertThat(verified.getUsername()).isEqualTo("tester|1");
+        assertThat(verified.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void tamperedOrExpiredTokenIsRejected() {
+        TokenKeyStore keyStore = new TokenKeyStore("", secret('a'));
+        String token = service(keyStore, NOW).issue(user);
+
+        String tampered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+        assertThat(service(keyStore, NOW).verify(tampered)).isEmpty();
+        assertThat(service(keyStore, NOW).verify("not-a-token")).isEmpty();
+        assertThat(service(keyStore, NOW.plusSeconds(3600)).verify(token)).isEmpty();
+        assertThat(service(new TokenKeyStore("", secret('b')), NOW).verify(token)).isEmpty();
+    }
+
+    @Test
+    void rotatedKeyFileKeepsOldTokensValid() throws IOException {
+        Path keyFile = dir.resolve("token-keys.properties");
+        Files.writeString(keyFile, "active=k1\nkey.k1=" + secret('a') + "\n");
+        TokenKeyStore keyStore = new TokenKeyStore(keyFile.toString(), "");
+        SignedTokenService service = service(keyStore, NOW);
+        String oldToken = service.issue(user);
+
+        // 새 키 추가 후 활성 키 교체
+        Files.writeString(keyFile, "active=k2\nkey.k1=" + secret('a') + "\nkey.k2=" + secret('b') + "\n");
+        Files.setLastModifiedTime(keyFile, FileTime.from(NOW.plusSeconds(60)));
+        keyStore.reloadIfChanged();
+
+        assertThat(keyStore.activeKey().id()).isEqualTo("k2");
+        assertThat(service.verify(oldToken)).isPresent();
+        assertThat(service.verify(service.issue(user))).isPresent();
+
+        // 이전 키 제거 후에는 이전 토큰 거부
+        Files.writeString(keyFile, "active=k2\nkey.k2=" + secret('b') + "\n");
+        Files.setLastModifiedTime(keyFile, FileTime.from(NOW.plusSeconds(120)));
+        keyStore.reloadIfChanged();
+
+        assertThat(service.verify(oldToken)).isEmpty();
+    }
+
+    @Test
+    void malformedKeyFileKeepsCurrentKeys() throws IOException {
+        Path keyFile = dir.resolve("token-keys.properties");
+        Files.writeString(keyFile, "active=k1\nkey.k1=" + secret('a') + "\n");
+        TokenKeyStore keyStore = new TokenKeyStore(keyFile.toString(), "");
+        SignedTokenService service = service(keyStore, NOW);
+        String token = service.issue(user);
+
+        // Base64가 아닌 키 값으로 교체해도 기존 키로 계속 동작
+        Files.writeString(keyFile, "active=k2\nkey.k2=not-base64!!\n");
+        Files.setLastModifiedTime(keyFile, FileTime.from(NOW.plusSeconds(60)));
+        keyStore.reloadIfChanged();
+
+        assertThat(keyStore.activeKey().id()).isEqualTo("k1");
+        assertThat(service.verify(token)).isPresent();
+    }
+
+    private SignedTokenService service(TokenKeyStore keyStore, Instant now) {
+        return new SignedTokenService(keyStore, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}
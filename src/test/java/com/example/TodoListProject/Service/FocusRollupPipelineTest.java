@@ -0,0 +1,144 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.FocusTimeSampleDto;
+import com.example.TodoListProject.Dto.TodoRequestDto;
+import com.example.TodoListProject.Entity.FocusRollup;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Enum.RollupGranularity;
+import com.example.TodoListProject.Repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집중시간 변경 이벤트 -> 시간/일/주 집계 검증 (주기 작업은 끄고 직접 호출)
+ */
+@SpringBootTest(properties = "app.scheduling.enabled=false")
+@ActiveProfiles("test")
+class FocusRollupPipelineTest {
+
+    // 2026-03-02 는 월요일 (주 구간 시작)
+    private static final LocalDateTime MONDAY_0910 = LocalDateTime.of(2026, 3, 2, 9, 10);
+    private static final LocalDateTime MONDAY_0950 = LocalDateTime.of(2026, 3, 2, 9, 50);
+    private static final LocalDateTime WEDNESDAY_1400 = LocalDateTime.of(2026, 3, 4, 14, 0);
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private FocusTimeBuffer focusTimeBuffer;
+    @Autowired
+    private FocusRollupPipeline focusRollupPipeline;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .userId("rollup-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("집계")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUserId(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rollsUpDeltasIntoHourDayAndWeekBuckets() {
+        Long todoA = todoService.createTodo(todo("A")).getId();
+        Long todoB = todoService.createTodo(todo("B")).getId();
+
+        // 단건 API: +600, -200 / 버퍼: +300
+        todoService.updateTodoFocusTime(todoA, 600L);
+        todoService.updateTodoFocusTime(todoA, 400L);
+        todoService.submitFocusTimeSamples(List.of(new FocusTimeSampleDto(todoB, 300L)));
+        focusTimeBuffer.flush();
+
+        // 구간 경계가 실행 시각에 좌우되지 않도록 이벤트 시각 고정 (기록 순서대로)
+        List<Long> sessionIds = jdbcTemplate.queryForList(
+                "SELECT id FROM focus_sessions WHERE user_id = :userId ORDER BY id",
+                new MapSqlParameterSource("userId", user.getId()), Long.class);
+        assertThat(sessionIds).hasSize(3);
+        setOccurredAt(sessionIds.get(0), MONDAY_0910);
+        setOccurredAt(sessionIds.get(1), MONDAY_0950);
+        setOccurredAt(sessionIds.get(2), WEDNESDAY_1400);
+
+        focusRollupPipeline.rollUp();
+
+        Map<String, Long> expected = new HashMap<>();
+        expected.put(key(RollupGranularity.HOUR, todoA, MONDAY_0910.withMinute(0)), 400L);
+        expected.put(key(RollupGranularity.HOUR, todoB, WEDNESDAY_1400), 300L);
+        expected.put(key(RollupGranularity.HOUR, FocusRollup.ALL_TODOS, MONDAY_0910.withMinute(0)), 400L);
+        expected.put(key(RollupGranularity.HOUR, FocusRollup.ALL_TODOS, WEDNESDAY_1400), 300L);
+        expected.put(key(RollupGranularity.DAY, todoA, MONDAY_0910.toLocalDate().atStartOfDay()), 400L);
+        expected.put(key(RollupGranularity.DAY, todoB, WEDNESDAY_1400.toLocalDate().atStartOfDay()), 300L);
+        expected.put(key(RollupGranularity.DAY, FocusRollup.ALL_TODOS, MONDAY_0910.toLocalDate().atStartOfDay()), 400L);
+        expected.put(key(RollupGranularity.DAY, FocusRollup.ALL_TODOS, WEDNESDAY_1400.toLocalDate().atStartOfDay()), 300L);
+        expected.put(key(RollupGranularity.WEEK, todoA, MONDAY_0910.toLocalDate().atStartOfDay()), 400L);
+        expected.put(key(RollupGranularity.WEEK, todoB, MONDAY_0910.toLocalDate().atStartOfDay()), 300L);
+        expected.put(key(RollupGranularity.WEEK, FocusRollup.ALL_TODOS, MONDAY_0910.toLocalDate().atStartOfDay()), 700L);
+
+        assertThat(rollups()).isEqualTo(expected);
+        assertThat(pendingSessions()).isZero();
+
+        // 이미 집계된 이벤트는 다시 더하지 않음
+        focusRollupPipeline.rollUp();
+
+        assertThat(rollups()).isEqualTo(expected);
+    }
+
+    private TodoRequestDto todo(String title) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitle(title);
+        return dto;
+    }
+
+    private void setOccurredAt(Long sessionId, LocalDateTime occurredAt) {
+        jdbcTemplate.update("UPDATE focus_sessions SET occurred_at = :occurredAt WHERE id = :id",
+                new MapSqlParameterSource().addValue("occurredAt", occurredAt).addValue("id", sessionId));
+    }
+
+    private Map<String, Long> rollups() {
+        Map<String, Long> rollups = new HashMap<>();
+        jdbcTemplate.query("SELECT granularity, todo_id, bucket_start, total_seconds FROM focus_rollups WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", user.getId()),
+                rs -> {
+                    rollups.put(key(RollupGranularity.valueOf(rs.getString("granularity")), rs.getLong("todo_id"),
+                            rs.getObject("bucket_start", LocalDateTime.class)), rs.getLong("total_seconds"));
+                });
+        return rollups;
+    }
+
+    private long pendingSessions() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM focus_sessions WHERE user_id = :userId AND rolled_up = FALSE",
+                new MapSqlParameterSource("userId", user.getId()), Long.class);
+    }
+
+    private String key(RollupGranularity granularity, long todoId, LocalDateTime bucketStart) {
+        return granularity + "/" + todoId + "/" + bucketStart;
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.FocusTimeSampleDto;
+import com.example.TodoListProject.Dto.TodoRequestDto;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Enum.LeaderboardType;
+import com.example.TodoListProject.Repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 집중시간 버퍼 검증 - 샘플 병합, 사용자 총 집중시간 차이 계산, 실패 시 재시도, 반영 중 단건 저장 우선
+ */
+@SpringBootTest(properties = "app.scheduling.enabled=false")
+@ActiveProfiles("test")
+class FocusTimeBufferTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private FocusTimeBuffer focusTimeBuffer;
+    @Autowired
+    private UserRepository userRepository;
+    @MockitoSpyBean
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @MockitoSpyBean
+    private LeaderboardService leaderboardService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .userId("buffer-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("버퍼")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUserId(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void coalescesSamplesAndAppliesDeltas() {
+        Long todoA = createTodo("A");
+        Long todoB = createTodo("B");
+        todoService.updateTodoFocusTime(todoA, 100L);
+
+        // 같은 할 일은 마지막 값만 남음
+        todoService.submitFocusTimeSamples(List.of(
+                new FocusTimeSampleDto(todoA, 150L),
+                new FocusTimeSampleDto(todoA, 250L),
+                new FocusTimeSampleDto(todoB, 60L)));
+        todoService.submitFocusTimeSamples(List.of(new FocusTimeSampleDto(todoB, 90L)));
+        assertThat(focusTimeBuffer.pendingCount()).isEqualTo(2);
+
+        focusTimeBuffer.flush();
+
+        // A: 100 -> 250 (+150), B: 0 -> 90 (+90)
+        assertThat(focusTimeBuffer.pendingCount()).isZero();
+        assertThat(todoFocusTime(todoA)).isEqualTo(250L);
+        assertThat(todoFocusTime(todoB)).isEqualTo(90L);
+        assertThat(userFocusTime()).isEqualTo(340L);
+        assertThat(sessionDeltas()).containsExactly(90L, 100L, 150L);
+
+        // 줄어든 값은 음수 차이로 반영, 같은 값은 건너뜀
+        todoService.submitFocusTimeSamples(List.of(
+                new FocusTimeSampleDto(todoA, 200L),
+                new FocusTimeSampleDto(todoB, 90L)));
+        focusTimeBuffer.flush();
+
+        assertThat(todoFocusTime(todoA)).isEqualTo(200L);
+        assertThat(userFocusTime()).isEqualTo(290L);
+        assertThat(sessionDeltas()).containsExactly(-50L, 90L, 100L, 150L);
+    }
+
+    @Test
+    void requeuesSamplesWhenFlushFails() {
+        Long todoId = createTodo("실패");
+        todoService.submitFocusTimeSamples(List.of(new FocusTimeSampleDto(todoId, 120L)));
+        doThrow(new IllegalStateException("리더보드 반영 실패"))
+                .when(leaderboardService).recordScore(eq(LeaderboardType.FOCUS_TIME), eq(user.getId()), isNull(), anyLong(), anyLong());
+
+        // 트랜잭션이 롤백되고 샘플은 버퍼로 돌아감
+        focusTimeBuffer.flush();
+        assertThat(focusTimeBuffer.pendingCount()).isEqualTo(1);
+        assertThat(todoFocusTime(todoId)).isZero();
+        assertThat(userFocusTime()).isZero();
+        reset(leaderboardService);
+
+        focusTimeBuffer.flush();
+        assertThat(focusTimeBuffer.pendingCount()).isZero();
+        assertThat(todoFocusTime(todoId)).isEqualTo(120L);
+        assertThat(userFocusTime()).isEqualTo(120L);
+    }
+
+    @Test
+    void singleUpdateDuringFlushIsNotOverwritten() {
+        Long todoId = createTodo("경합");
+        todoService.submitFocusTimeSamples(List.of(new FocusTimeSampleDto(todoId, 300L)));
+
+        // 버퍼를 비운 뒤 행을 잠그기 직전에 다른 요청이 단건 API로 저장하고 커밋
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        doAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                try {
+                    todoService.updateTodoFocusTime(todoId, 500L);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }).join();
+            return invocation.callRealMethod();
+        }).when(jdbcTemplate).queryForList(startsWith("SELECT id, user_id, total_focus_time FROM todo "),
+                any(SqlParameterSource.class));
+
+        focusTimeBuffer.flush();
+        reset(jdbcTemplate);
+
+        // 먼저 꺼낸 300 이 나중에 저장된 500 을 덮어쓰지 않음
+        assertThat(todoFocusTime(todoId)).isEqualTo(500L);
+        assertThat(userFocusTime()).isEqualTo(500L);
+        assertThat(sessionDeltas()).containsExactly(500L);
+        assertThat(focusTimeBuffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void rejectsOversizedBatch() {
+        Long todoId = createTodo("상한");
+        List<FocusTimeSampleDto> samples = LongStream.range(0, 201)
+                .mapToObj(i -> new FocusTimeSampleDto(todoId, i))
+                .toList();
+
+        assertThatThrownBy(() -> todoService.submitFocusTimeSamples(samples))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(focusTimeBuffer.pendingCount()).isZero();
+    }
+
+    private Long createTodo(String title) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitle(title);
+        return todoService.createTodo(dto).getId();
+    }
+
+    private long todoFocusTime(Long todoId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(total_focus_time, 0) FROM todo WHERE id = :id",
+                new MapSqlParameterSource("id", todoId), Long.class);
+    }
+
+    private long userFocusTime() {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(total_focus_time, 0) FROM todo_users WHERE id = :id",
+                new MapSqlParameterSource("id", user.getId()), Long.class);
+    }
+
+    private List<Long> sessionDeltas() {
+        return jdbcTemplate.queryForList("SELECT delta_seconds FROM focus_sessions WHERE user_id = :userId ORDER BY delta_seconds",
+                new MapSqlParameterSource("userId", user.getId()), Long.class);
+    }
+}
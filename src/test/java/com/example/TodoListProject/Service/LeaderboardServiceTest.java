@@ -0,0 +1,77 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.LeaderboardEntryDto;
+import com.example.TodoListProject.Enum.LeaderboardType;
+import com.example.TodoListProject.Repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커밋 이후 콜백이 순서를 바꿔 도착해도 더 오래된 버전의 점수가 최신 점수를 덮어쓰지 않는지 검증
+ */
+class LeaderboardServiceTest {
+
+    private UserRepository userRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        leaderboardService = new LeaderboardService(userRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        // id, 이름, 포인트, 총 집중시간, 버전
+        when(userRepository.streamLeaderboardScores())
+                .thenAnswer(invocation -> Stream.<Object[]>of(new Object[]{1L, "사용자", 10L, 0L, 3L}));
+    }
+
+    @Test
+    void dropsUpdateOlderThanApplied() {
+        leaderboardService.getTop(LeaderboardType.POINTS, 10);
+
+        // 버전 5 의 콜백이 버전 4 보다 먼저 실행됨
+        leaderboardService.recordScore(LeaderboardType.POINTS, 1L, null, 50L, 5L);
+        leaderboardService.recordScore(LeaderboardType.POINTS, 1L, null, 30L, 4L);
+        assertThat(score(LeaderboardType.POINTS)).isEqualTo(50L);
+
+        // 같은 버전은 다시 반영해도 결과가 같음
+        leaderboardService.recordScore(LeaderboardType.POINTS, 1L, null, 50L, 5L);
+        assertThat(score(LeaderboardType.POINTS)).isEqualTo(50L);
+
+        // 버전은 종류별로 비교 - 포인트가 먼저 반영됐어도 그 이전 버전의 집중시간 변경은 반영
+        leaderboardService.recordScore(LeaderboardType.FOCUS_TIME, 1L, null, 120L, 4L);
+        assertThat(score(LeaderboardType.FOCUS_TIME)).isEqualTo(120L);
+    }
+
+    @Test
+    void rebuildDropsUpdatesOlderThanDatabaseRow() {
+        leaderboardService.getTop(LeaderboardType.POINTS, 10);
+
+        // DB에서 읽은 버전(3)보다 오래된 갱신
+        leaderboardService.recordScore(LeaderboardType.POINTS, 1L, null, 5L, 2L);
+        assertThat(score(LeaderboardType.POINTS)).isEqualTo(10L);
+
+        // 재구성 중 커밋된 최신 갱신은 DB 값보다 우선, 그보다 늦게 도착한 오래된 갱신은 버림
+        when(userRepository.streamLeaderboardScores()).thenAnswer(invocation -> {
+            leaderboardService.recordScore(LeaderboardType.POINTS, 1L, null, 70L, 6L);
+            leaderboardService.recordScore(LeaderboardType.POINTS, 1L, null, 40L, 4L);
+            return Stream.<Object[]>of(new Object[]{1L, "사용자", 40L, 0L, 4L});
+        });
+        leaderboardService.rebuild();
+
+        assertThat(score(LeaderboardType.POINTS)).isEqualTo(70L);
+    }
+
+    private Long score(LeaderboardType type) {
+        List<LeaderboardEntryDto> top = leaderboardService.getTop(type, 10);
+        return top.get(0).getScore();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.TodoRequestDto;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.PointOutboxRepository;
+import com.example.TodoListProject.Repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 집중시간 변경 -> outbox -> 포인트 적립 검증 (주기 작업은 끄고 drain 직접 호출, 매 호출마다 outbox 확인)
+ */
+@SpringBootTest(properties = {
+        "app.scheduling.enabled=false",
+        "points.accrual.recovery-interval-ms=0"
+})
+@ActiveProfiles("test")
+class PointAccrualWorkerTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private PointAccrualWorker pointAccrualWorker;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @MockitoSpyBean
+    private PointOutboxRepository pointOutboxRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .userId("accrual-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("적립")
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user.getUserId(), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void focusTimeChangeAccruesOnce() {
+        changeFocusTime(150L);
+
+        pointAccrualWorker.drain();
+
+        // 150초 -> 2포인트 (60초 단위 절삭)
+        assertThat(count("points")).isEqualTo(1);
+        assertThat(count("point_outbox")).isZero();
+        assertThat(userRepository.findCurrentPointsById(user.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    void redrainAfterFailedDeleteDoesNotAccrueTwice() {
+        changeFocusTime(150L);
+        doThrow(new IllegalStateException("outbox 삭제 실패"))
+                .when(pointOutboxRepository).deleteProcessed(eq(user.getId()), anyLong());
+
+        // 적립은 커밋됐지만 outbox 행이 남음
+        pointAccrualWorker.drain();
+        assertThat(count("points")).isEqualTo(1);
+        assertThat(count("point_outbox")).isEqualTo(1);
+        reset(pointOutboxRepository);
+
+        // 다시 처리해도 변환된 집중시간 기준이라 추가 적립 없음
+        pointAccrualWorker.drain();
+        assertThat(count("points")).isEqualTo(1);
+        assertThat(count("point_outbox")).isZero();
+        assertThat(userRepository.findCurrentPointsById(user.getId())).isEqualTo(2L);
+    }
+
+    private void changeFocusTime(long focusTime) {
+        TodoRequestDto dto = new TodoRequestDto();
+        dto.setTitle("집중");
+        Long todoId = todoService.createTodo(dto).getId();
+        todoService.updateTodoFocusTime(todoId, focusTime);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", user.getId()), Long.class);
+    }
+}
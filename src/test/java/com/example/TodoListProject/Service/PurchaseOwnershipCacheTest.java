@@ -0,0 +1,70 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserPurchaseRepository;
+import com.example.TodoListProject.config.PrimaryReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로드 도중 구매가 반영되면 그 사용자의 비트셋만 캐시하지 않는지 검증 (다른 사용자의 구매는 영향 없음)
+ */
+class PurchaseOwnershipCacheTest {
+
+    private final User alice = User.builder().id(1L).build();
+    private final User bob = User.builder().id(2L).build();
+
+    private UserPurchaseRepository userPurchaseRepository;
+    private PurchaseOwnershipCache ownershipCache;
+
+    @BeforeEach
+    void setUp() {
+        ShopCatalog shopCatalog = mock(ShopCatalog.class);
+        when(shopCatalog.indexedItemCount()).thenReturn(2);
+        when(shopCatalog.indexOf(10L)).thenReturn(0);
+        when(shopCatalog.indexOf(20L)).thenReturn(1);
+
+        PrimaryReader primaryReader = mock(PrimaryReader.class);
+        when(primaryReader.read(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+
+        userPurchaseRepository = mock(UserPurchaseRepository.class);
+        ownershipCache = new PurchaseOwnershipCache(shopCatalog, userPurchaseRepository, primaryReader, 100, 600);
+    }
+
+    @Test
+    void purchaseByOtherUserDuringLoadStillCaches() {
+        when(userPurchaseRepository.findPurchasedItemIdsByUser(alice)).thenAnswer(invocation -> {
+            ownershipCache.recordPurchase(bob.getId(), 20L);
+            return List.of(10L);
+        });
+
+        ownershipCache.get(alice);
+
+        assertThat(ownershipCache.getCache().get(alice.getId())).isNotNull();
+    }
+
+    @Test
+    void purchaseBySameUserDuringLoadSkipsCaching() {
+        when(userPurchaseRepository.findPurchasedItemIdsByUser(alice)).thenAnswer(invocation -> {
+            // 이미 읽은 뒤 커밋된 구매 - 읽은 목록에는 빠져 있음
+            ownershipCache.recordPurchase(alice.getId(), 20L);
+            return List.of(10L);
+        });
+
+        ownershipCache.get(alice);
+        assertThat(ownershipCache.getCache().get(alice.getId())).isNull();
+
+        // 다음 조회에서 다시 읽어 캐시
+        when(userPurchaseRepository.findPurchasedItemIdsByUser(alice)).thenReturn(List.of(10L, 20L));
+        ownershipCache.get(alice);
+        assertThat(ownershipCache.getCache().get(alice.getId())).isNotNull();
+    }
+}
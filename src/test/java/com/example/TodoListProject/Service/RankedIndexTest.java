@@ -0,0 +1,78 @@
+package com.example.TodoListProject.Service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 순위 인덱스를 매번 정렬하는 단순 구현과 비교 검증
+ */
+class RankedIndexTest {
+
+    @Test
+    void ranksByScoreThenUserId() {
+        RankedIndex index = new RankedIndex();
+        index.put(3, 100);
+        index.put(1, 50);
+        index.put(2, 100);
+
+        assertThat(index.top(10)).containsExactly(
+                new RankedIndex.Ranked(1, 2, 100),
+                new RankedIndex.Ranked(2, 3, 100),
+                new RankedIndex.Ranked(3, 1, 50));
+        assertThat(index.rankOf(1)).isEqualTo(3);
+        assertThat(index.rankOf(99)).isEqualTo(-1);
+
+        index.put(1, 150);
+        assertThat(index.rankOf(1)).isEqualTo(1);
+        assertThat(index.range(2, 5)).extracting(RankedIndex.Ranked::userId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void matchesSortedListUnderRandomUpdates() {
+        Random random = new Random(42);
+        RankedIndex index = new RankedIndex();
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            long userId = random.nextInt(500);
+            if (random.nextInt(10) == 0) {
+                index.remove(userId);
+                expected.remove(userId);
+            } else {
+                long score = random.nextInt(200);
+                index.put(userId, score);
+                expected.put(userId, score);
+            }
+
+            if (i % 1_000 == 0) {
+                assertMatches(index, expected, random);
+            }
+        }
+        assertMatches(index, expected, random);
+    }
+
+    private void assertMatches(RankedIndex index, Map<Long, Long> expected, Random random) {
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        assertThat(index.size()).isEqualTo(sorted.size());
+        List<RankedIndex.Ranked> all = index.top(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(all.get(i)).isEqualTo(new RankedIndex.Ranked(i + 1, sorted.get(i).getKey(), sorted.get(i).getValue()));
+            assertThat(index.rankOf(sorted.get(i).getKey())).isEqualTo(i + 1);
+        }
+
+        int from = random.nextInt(sorted.size() + 2);
+        assertThat(index.range(from, 7)).isEqualTo(all.subList(Math.min(Math.max(from, 1) - 1, all.size()),
+                Math.min(Math.max(from, 1) - 1 + 7, all.size())));
+    }
+}
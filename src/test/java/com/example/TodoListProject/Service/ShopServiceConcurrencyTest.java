@@ -0,0 +1,123 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Dto.PurchaseRequestDto;
+import com.example.TodoListProject.Dto.PurchaseResponseDto;
+import com.example.TodoListProject.Entity.ShopItem;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.ShopItemRepository;
+import com.example.TodoListProject.Repository.UserPurchaseRepository;
+import com.example.TodoListProject.Repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 구매 요청에서 포인트가 음수가 되거나 같은 아이템이 중복 구매되지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ShopServiceConcurrencyTest {
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ShopService shopService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ShopItemRepository shopItemRepository;
+    @Autowired
+    private UserPurchaseRepository userPurchaseRepository;
+
+    @Test
+    void sameItemPurchasedConcurrentlyOnlyOnce() throws Exception {
+        ShopItem item = shopItemRepository.findByIsActiveTrueOrderByCategory().get(0);
+        User user = createUser(item.getPrice() * 10);
+
+        List<PurchaseResponseDto> results = runConcurrently(THREADS * 4,
+                i -> new PurchaseRequestDto(user.getId(), item.getId()));
+
+        long successCount = results.stream().filter(PurchaseResponseDto::getSuccess).count();
+        assertThat(successCount).isEqualTo(1);
+        assertThat(userPurchaseRepository.findPurchasedItemIdsByUser(user)).containsExactly(item.getId());
+        assertThat(userRepository.findCurrentPointsById(user.getId())).isEqualTo(item.getPrice() * 9);
+    }
+
+    @Test
+    void concurrentPurchasesNeverOverspend() throws Exception {
+        List<ShopItem> items = shopItemRepository.findByIsActiveTrueOrderByCategory();
+        long budget = items.stream().mapToLong(ShopItem::getPrice).sum() / 3;
+        User user = createUser(budget);
+
+        // 모든 아이템을 여러 번씩 동시에 구매 시도
+        List<PurchaseResponseDto> results = runConcurrently(items.size() * 8,
+                i -> new PurchaseRequestDto(user.getId(), items.get(i % items.size()).getId()));
+
+        List<Long> purchasedIds = userPurchaseRepository.findPurchasedItemIdsByUser(user);
+        long spent = items.stream()
+                .filter(item -> purchasedIds.contains(item.getId()))
+                .mapToLong(ShopItem::getPrice)
+                .sum();
+        Long remaining = userRepository.findCurrentPointsById(user.getId());
+
+        assertThat(purchasedIds).doesNotHaveDuplicates();
+        assertThat(results.stream().filter(PurchaseResponseDto::getSuccess).count()).isEqualTo(purchasedIds.size());
+        assertThat(remaining).isGreaterThanOrEqualTo(0L);
+        assertThat(remaining).isEqualTo(budget - spent);
+    }
+
+    private User createUser(long points) {
+        return userRepository.save(User.builder()
+                .userId("buyer-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("구매자")
+                .currentPoints(points)
+                .build());
+    }
+
+    private List<PurchaseResponseDto> runConcurrently(int requests, RequestFactory factory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PurchaseResponseDto>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                PurchaseRequestDto request = factory.create(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return shopService.purchaseItem(request);
+                    } catch (RuntimeException e) {
+                        // 커밋 단계 충돌 등은 실패한 구매로 간주
+                        return PurchaseResponseDto.builder().success(false).message(e.getMessage()).build();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<PurchaseResponseDto> results = new ArrayList<>();
+            for (Future<PurchaseResponseDto> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        PurchaseRequestDto create(int index);
+    }
+}
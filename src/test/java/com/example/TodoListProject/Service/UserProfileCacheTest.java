@@ -0,0 +1,83 @@
+package com.example.TodoListProject.Service;
+
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.config.PrimaryReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로드 도중 같은 사용자가 무효화되면 읽은 값을 캐시하지 않는지 검증 (다른 사용자의 무효화는 영향 없음)
+ */
+class UserProfileCacheTest {
+
+    private UserRepository userRepository;
+    private UserProfileCache userProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        PrimaryReader primaryReader = mock(PrimaryReader.class);
+        when(primaryReader.read(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+
+        userRepository = mock(UserRepository.class);
+        userProfileCache = new UserProfileCache(userRepository, primaryReader, 100, 60);
+    }
+
+    @Test
+    void invalidateDuringLoadSkipsStaleStore() {
+        when(userRepository.findById(1L)).thenAnswer(invocation -> {
+            // 행을 읽은 뒤 다른 트랜잭션이 커밋하고 무효화
+            User stale = user(1L, 100L);
+            userProfileCache.invalidate(1L);
+            return Optional.of(stale);
+        });
+
+        // 이번 요청에는 읽은 값을 돌려주지만 캐시에는 남기지 않음
+        assertThat(userProfileCache.findById(1L)).map(UserProfileCache.UserProfile::currentPoints).contains(100L);
+        assertThat(userProfileCache.getProfiles().get(1L)).isNull();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, 40L)));
+        assertThat(userProfileCache.findById(1L)).map(UserProfileCache.UserProfile::currentPoints).contains(40L);
+        assertThat(userProfileCache.getProfiles().get(1L).currentPoints()).isEqualTo(40L);
+    }
+
+    @Test
+    void invalidateOfOtherUserDuringLoadStillCaches() {
+        when(userRepository.findById(1L)).thenAnswer(invocation -> {
+            userProfileCache.invalidate(2L);
+            return Optional.of(user(1L, 100L));
+        });
+
+        userProfileCache.findById(1L);
+
+        assertThat(userProfileCache.getProfiles().get(1L)).isNotNull();
+    }
+
+    @Test
+    void findByUserIdLoadsThroughPrimaryKey() {
+        when(userRepository.findIdByUserId("user-1")).thenReturn(Optional.of(1L));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, 10L)));
+
+        assertThat(userProfileCache.findByUserId("user-1")).map(UserProfileCache.UserProfile::id).contains(1L);
+        assertThat(userProfileCache.getIdsByUserId().get("user-1")).isEqualTo(1L);
+        assertThat(userProfileCache.getProfiles().get(1L)).isNotNull();
+    }
+
+    private User user(Long id, Long points) {
+        return User.builder()
+                .id(id)
+                .userId("user-" + id)
+                .userPw("pw")
+                .userName("사용자")
+                .currentPoints(points)
+                .build();
+    }
+}
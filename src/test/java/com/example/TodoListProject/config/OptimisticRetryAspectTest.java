@@ -0,0 +1,167 @@
+package com.example.TodoListProject.config;
+
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @OptimisticRetry 검증 - 매 시도 직전에 다른 트랜잭션이 버전을 올려 실제 낙관적 락 충돌을 만듦
+ * (재시도마다 새 트랜잭션인지, 감싼 예외도 감지하는지, 시도 횟수 상한, app.optimistic.retry 메트릭)
+ */
+@SpringBootTest(properties = "app.scheduling.enabled=false")
+@ActiveProfiles("test")
+class OptimisticRetryAspectTest {
+
+    private static final String METHOD = "ConflictingRenamer.rename(..)";
+
+    @Autowired
+    private ConflictingRenamer renamer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .userId("retry-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("재시도")
+                .build());
+        renamer.reset(0);
+    }
+
+    @Test
+    void retriesEachAttemptInNewTransactionUntilSuccess() {
+        renamer.reset(2);
+        double retriedBefore = count("retried");
+        double recoveredBefore = count("recovered");
+
+        renamer.rename(user.getId(), "변경");
+
+        // 충돌 2번 후 세 번째 시도에서 성공, 시도마다 별도 트랜잭션
+        assertThat(renamer.transactions()).hasSize(3).doesNotHaveDuplicates();
+        assertThat(renamer.transactions()).allMatch(TransactionStatus::isNewTransaction);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getUserName()).isEqualTo("변경");
+        assertThat(count("retried") - retriedBefore).isEqualTo(2);
+        assertThat(count("recovered") - recoveredBefore).isEqualTo(1);
+    }
+
+    @Test
+    void givesUpAfterMaxAttemptsWithWrappedCause() {
+        renamer.reset(Integer.MAX_VALUE);
+        double retriedBefore = count("retried");
+        double exhaustedBefore = count("exhausted");
+
+        assertThatThrownBy(() -> renamer.rename(user.getId(), "변경"))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(renamer.transactions()).hasSize(3);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getUserName()).isEqualTo("재시도");
+        assertThat(count("retried") - retriedBefore).isEqualTo(2);
+        assertThat(count("exhausted") - exhaustedBefore).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryOtherFailures() {
+        assertThatThrownBy(() -> renamer.rename(user.getId(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(renamer.transactions()).hasSize(1);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.find("app.optimistic.retry").tag("outcome", outcome).functionCounters().stream()
+                .filter(counter -> counter.getId().getTag("method").endsWith(METHOD))
+                .mapToDouble(FunctionCounter::count)
+                .sum();
+    }
+
+    @TestConfiguration
+    static class RetryTestConfig {
+
+        @Bean
+        ConflictingRenamer conflictingRenamer(UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                                              PlatformTransactionManager transactionManager) {
+            return new ConflictingRenamer(userRepository, jdbcTemplate, transactionManager);
+        }
+    }
+
+    // 사용자를 읽은 뒤 다른 트랜잭션에서 버전을 올리고 저장해 충돌을 일으키는 테스트용 서비스
+    static class ConflictingRenamer {
+
+        private final UserRepository userRepository;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate concurrentWriter;
+
+        private final List<TransactionStatus> transactions = new CopyOnWriteArrayList<>();
+        private volatile int conflicts;
+
+        ConflictingRenamer(UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+            this.userRepository = userRepository;
+            this.jdbcTemplate = jdbcTemplate;
+            this.concurrentWriter = new TransactionTemplate(transactionManager);
+            this.concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+
+        // 프록시를 거쳐 호출되므로 필드 대신 메서드로 접근
+        public void reset(int conflicts) {
+            this.transactions.clear();
+            this.conflicts = conflicts;
+        }
+
+        public List<TransactionStatus> transactions() {
+            return transactions;
+        }
+
+        @OptimisticRetry(maxAttempts = 3, backoffMillis = 1L, maxBackoffMillis = 2L)
+        @Transactional
+        public void rename(Long id, String userName) {
+            transactions.add(TransactionAspectSupport.currentTransactionStatus());
+            if (userName == null) {
+                throw new IllegalArgumentException("이름이 없습니다");
+            }
+            User user = userRepository.findById(id).orElseThrow();
+
+            if (transactions.size() <= conflicts) {
+                concurrentWriter.executeWithoutResult(status ->
+                        jdbcTemplate.update("UPDATE todo_users SET version = version + 1 WHERE id = ?", id));
+            }
+
+            user.setUserName(userName);
+            try {
+                userRepository.saveAndFlush(user);
+            } catch (RuntimeException e) {
+                // 서비스에서 예외를 감싸 던지는 경우
+                throw new RuntimeException("이름 변경 실패", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.TodoListProject.config;
+
+import com.example.TodoListProject.Dto.ShopItemDto;
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Service.PurchaseOwnershipCache;
+import com.example.TodoListProject.Service.ShopService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 복제본 없이 primary 풀의 커넥션을 모두 잡은 읽기 전용 조회들이
+ * 캐시 로더(PrimaryReader)에서 커넥션을 하나 더 기다리며 멈추지 않는지 검증
+ */
+@SpringBootTest(properties = {
+        "app.scheduling.enabled=false",
+        "app.datasource.replica.jdbc-url=",
+        "spring.datasource.hikari.maximum-pool-size=" + PrimaryReaderPoolTest.POOL_SIZE,
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@ActiveProfiles("test")
+class PrimaryReaderPoolTest {
+
+    static final int POOL_SIZE = 4;
+
+    @Autowired
+    private ShopService shopService;
+    @Autowired
+    private UserRepository userRepository;
+    @MockitoSpyBean
+    private PurchaseOwnershipCache purchaseOwnershipCache;
+
+    @Test
+    void coldCacheListingsDoNotWaitForSecondConnection() throws Exception {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            users.add(userRepository.save(User.builder()
+                    .userId("pool-" + UUID.randomUUID())
+                    .userPw("pw")
+                    .userName("풀")
+                    .currentPoints(1000L)
+                    .build()));
+        }
+
+        // 모든 조회가 사용자를 읽어 커넥션을 잡은 뒤에야 구매 목록(비어 있는 캐시)을 읽도록 맞춤
+        CyclicBarrier allConnectionsHeld = new CyclicBarrier(POOL_SIZE);
+        doAnswer(invocation -> {
+            allConnectionsHeld.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(purchaseOwnershipCache).get(any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+        try {
+            List<Future<List<ShopItemDto>>> listings = new ArrayList<>();
+            for (User user : users) {
+                listings.add(executor.submit(() -> shopService.getAllShopItems(user.getId())));
+            }
+            for (Future<List<ShopItemDto>> listing : listings) {
+                assertThat(listing.get(10, TimeUnit.SECONDS)).isNotEmpty();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.TodoListProject.config;
+
+import com.example.TodoListProject.Entity.User;
+import com.example.TodoListProject.Repository.UserRepository;
+import com.example.TodoListProject.Service.PointService;
+import com.example.TodoListProject.Service.ShopService;
+import com.example.TodoListProject.Service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 풀, 캐시 로더는 primary 풀에서 커넥션을 가져오는지 검증 (풀별 커넥션 획득 횟수 비교)
+ * test 프로필의 replica 풀은 같은 내장 DB 를 가리키는 별도 풀
+ */
+@SpringBootTest(properties = "app.scheduling.enabled=false")
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private ShopService shopService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .userId("routing-" + UUID.randomUUID())
+                .userPw("pw")
+                .userName("라우팅")
+                .build());
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplicaPool() {
+        long replicaBefore = acquisitions("replica");
+        long primaryBefore = acquisitions("primary");
+
+        pointService.getUserPointHistoryPage(user.getId(), null, 20);
+
+        assertThat(acquisitions("replica")).isGreaterThan(replicaBefore);
+        assertThat(acquisitions("primary")).isEqualTo(primaryBefore);
+    }
+
+    @Test
+    void userExportRunsReadOnlyOnReplica() throws Exception {
+        // UserService 는 클래스 전체가 읽기-쓰기 트랜잭션이지만 내보내기는 읽기 전용
+        long replicaBefore = acquisitions("replica");
+        long primaryBefore = acquisitions("primary");
+
+        userService.exportUsers(OutputStream.nullOutputStream());
+
+        assertThat(acquisitions("replica")).isGreaterThan(replicaBefore);
+        assertThat(acquisitions("primary")).isEqualTo(primaryBefore);
+    }
+
+    @Test
+    void cacheMissInsideReadOnlyTransactionLoadsFromPrimary() {
+        // 상점 목록 조회는 읽기 전용이지만 구매 비트셋 캐시 미스는 primary 에서 읽음
+        long primaryBefore = acquisitions("primary");
+
+        shopService.getAllShopItems(user.getId());
+
+        assertThat(acquisitions("primary")).isGreaterThan(primaryBefore);
+    }
+
+    private long acquisitions(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer != null ? timer.count() : 0L;
+    }
+}
@@ -0,0 +1,56 @@
+-- 테스트용 내장 H2 스키마 (src/main/resources/db/migration/mysql 과 같은 버전 / 같은 구조)
+-- V1: 마이그레이션 도입 이전 스키마
+
+CREATE SEQUENCE todo_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE todo_users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id VARCHAR(255),
+    user_pw VARCHAR(255),
+    user_name VARCHAR(255),
+    total_focus_time BIGINT,
+    current_points BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE todo (
+    id BIGINT NOT NULL,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    status ENUM('DONE', 'IN_PROGRESS', 'TODO'),
+    total_focus_time BIGINT,
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todo_user FOREIGN KEY (user_id) REFERENCES todo_users (id)
+);
+
+CREATE TABLE points (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    focus_time_used BIGINT NOT NULL,
+    points_earned BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_points_user FOREIGN KEY (user_id) REFERENCES todo_users (id)
+);
+
+CREATE TABLE shop_items (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    item_name VARCHAR(255),
+    description VARCHAR(255),
+    price BIGINT,
+    category VARCHAR(255),
+    is_active BOOLEAN,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE user_purchases (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT,
+    shop_item_id BIGINT,
+    purchased_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_user_purchases_user FOREIGN KEY (user_id) REFERENCES todo_users (id),
+    CONSTRAINT fk_user_purchases_shop_item FOREIGN KEY (shop_item_id) REFERENCES shop_items (id)
+);
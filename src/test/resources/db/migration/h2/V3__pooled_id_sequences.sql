@@ -0,0 +1,6 @@
+-- V3: points / user_purchases id 를 pooled 시퀀스로 전환 (테스트 DB 는 항상 비어 있으므로 1부터 시작)
+ALTER TABLE points ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE user_purchases ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE points_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_purchases_seq START WITH 1 INCREMENT BY 50;
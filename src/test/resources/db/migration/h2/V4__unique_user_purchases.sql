@@ -0,0 +1,7 @@
+-- V4: 같은 아이템 중복 구매 방지 유니크 제약 (중복 행은 가장 먼저 구매한 행만 남김)
+DELETE FROM user_purchases d
+WHERE EXISTS (SELECT 1 FROM user_purchases k
+              WHERE k.user_id = d.user_id AND k.shop_item_id = d.shop_item_id AND k.id < d.id);
+
+ALTER TABLE user_purchases
+    ADD CONSTRAINT uk_user_purchases_user_item UNIQUE (user_id, shop_item_id);
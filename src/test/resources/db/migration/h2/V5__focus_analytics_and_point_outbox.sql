@@ -0,0 +1,28 @@
+-- V5: 집중시간 통계(이벤트 / 구간 집계)와 포인트 자동 적립 대기 테이블
+CREATE TABLE focus_sessions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    delta_seconds BIGINT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL,
+    rolled_up BOOLEAN NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE focus_rollups (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    granularity ENUM('DAY', 'HOUR', 'WEEK') NOT NULL,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    bucket_start TIMESTAMP(6) NOT NULL,
+    total_seconds BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_focus_rollups_bucket UNIQUE (granularity, user_id, todo_id, bucket_start)
+);
+
+CREATE TABLE point_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,7 @@
+-- V6: 조회 경로별 인덱스 (MySQL 마이그레이션과 같은 인덱스)
+CREATE INDEX IF NOT EXISTS idx_user_status ON todo (user_id, status);
+CREATE INDEX IF NOT EXISTS idx_points_user_created_at ON points (user_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_user_purchases_user_purchased_at ON user_purchases (user_id, purchased_at);
+CREATE INDEX IF NOT EXISTS idx_todo_users_user_id ON todo_users (user_id);
+CREATE INDEX IF NOT EXISTS idx_focus_sessions_rolled_up ON focus_sessions (rolled_up, id);
+CREATE INDEX IF NOT EXISTS idx_point_outbox_user_id ON point_outbox (user_id, id);
@@ -0,0 +1,6 @@
+-- V7: 변환된 집중시간은 항상 값이 있음
+UPDATE todo_users u
+SET converted_focus_time = (SELECT COALESCE(SUM(p.focus_time_used), 0) FROM points p WHERE p.user_id = u.id)
+WHERE converted_focus_time IS NULL;
+
+ALTER TABLE todo_users ALTER COLUMN converted_focus_time SET NOT NULL;